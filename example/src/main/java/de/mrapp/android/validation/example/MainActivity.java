@@ -23,6 +23,8 @@ import de.mrapp.android.validation.Constraints;
 import de.mrapp.android.validation.EditText;
 import de.mrapp.android.validation.PasswordEditText;
 import de.mrapp.android.validation.Spinner;
+import de.mrapp.android.validation.ValidationDependencyGraph;
+import de.mrapp.android.validation.ValidationGroup;
 import de.mrapp.android.validation.Validators;
 import de.mrapp.android.validation.validators.text.Case;
 
@@ -88,6 +90,17 @@ public class MainActivity extends AppCompatActivity {
      */
     private EditText additionalInformationEditText;
 
+    /**
+     * The group, which allows to validate the values of all views at once.
+     */
+    private ValidationGroup validationGroup;
+
+    /**
+     * The graph, which allows to re-validate the password repetition, when the password is
+     * changed.
+     */
+    private ValidationDependencyGraph dependencyGraph;
+
     /**
      * Initializes the edit text, which allows to enter an username.
      */
@@ -116,7 +129,7 @@ public class MainActivity extends AppCompatActivity {
                 Validators.noWhitespace(this, R.string.no_whitespace_validator_error_message));
         passwordEditText.addAllConstraints(Constraints.minLength(SUGGESTED_PASSWORD_LENGTH),
                 Constraints.containsLetter(), Constraints.containsNumber(),
-                Constraints.containsSymbol());
+                Constraints.containsSymbol(), Constraints.uncommon(this));
         passwordEditText.addAllHelperTextIds(R.string.password_edit_text_helper_text0,
                 R.string.password_edit_text_helper_text1, R.string.password_edit_text_helper_text2,
                 R.string.password_edit_text_helper_text3, R.string.password_edit_text_helper_text4);
@@ -181,22 +194,33 @@ public class MainActivity extends AppCompatActivity {
                 (EditText) findViewById(R.id.additional_information_edit_text);
     }
 
+    /**
+     * Initializes the graph, which allows to re-validate views, when the values of the views, they
+     * depend on, are changed.
+     */
+    private void initializeDependencyGraph() {
+        dependencyGraph = new ValidationDependencyGraph();
+        dependencyGraph.addView(passwordRepetitionEditText);
+    }
+
     /**
      * Initializes the button, which allows to validate the values of all views.
      */
     private void initializeValidateButton() {
+        validationGroup = new ValidationGroup();
+        validationGroup.addView(usernameEditText);
+        validationGroup.addView(passwordEditText);
+        validationGroup.addView(passwordRepetitionEditText);
+        validationGroup.addView(genderSpinner);
+        validationGroup.addView(firstNameEditText);
+        validationGroup.addView(lastNameEditText);
+        validationGroup.addView(additionalInformationEditText);
         Button button = (Button) findViewById(R.id.validate_button);
         button.setOnClickListener(new OnClickListener() {
 
             @Override
             public void onClick(final View v) {
-                usernameEditText.validate();
-                passwordEditText.validate();
-                passwordRepetitionEditText.validate();
-                genderSpinner.validate();
-                firstNameEditText.validate();
-                lastNameEditText.validate();
-                additionalInformationEditText.validate();
+                validationGroup.validate(null);
             }
 
         });
@@ -213,6 +237,7 @@ public class MainActivity extends AppCompatActivity {
         initializeFirstNameEditText();
         initializeLastNameEditText();
         initializeAdditionalInformationEditText();
+        initializeDependencyGraph();
         initializeValidateButton();
     }
 
@@ -0,0 +1,124 @@
+#!/usr/bin/env python3
+#
+# Copyright 2015 - 2019 Michael Rapp
+#
+# Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+# in compliance with the License. You may obtain a copy of the License at
+#
+# http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software distributed under the License
+# is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+# or implied. See the License for the specific language governing permissions and limitations under
+# the License.
+#
+# Builds the password dictionary, which is used by the class DictionaryConstraint, from the word
+# list words.txt. Only lower case words, which consist of at least four letters, are included.
+#
+# Usage: build_dictionary.py [words file] [output file]
+#
+# The output is a minimized trie (DAWG), which is read by the class CompactDictionary:
+#
+# - A 16 byte header, consisting of the big endian integers magic (0x50574447), version (1),
+#   node count and the offset of the root node.
+# - The nodes in breadth-first order. Each node consists of a terminal flag (1 byte) and the
+#   number of its children (1 byte), followed by its children, sorted by their characters. Each
+#   child consists of its character (2 bytes) and the offset of its node (4 bytes).
+
+import os
+import re
+import struct
+import sys
+
+MAGIC = 0x50574447
+
+VERSION = 1
+
+HEADER_SIZE = 16
+
+DIRECTORY = os.path.dirname(os.path.abspath(__file__))
+
+
+class Node:
+    __slots__ = ('terminal', 'children')
+
+    def __init__(self):
+        self.terminal = False
+        self.children = {}
+
+
+def read_words(path):
+    with open(path, encoding='utf-8') as file:
+        words = file.read().split()
+
+    return sorted(set(word for word in words if re.fullmatch('[a-z]{4,}', word)))
+
+
+def build_trie(words):
+    root = Node()
+
+    for word in words:
+        node = root
+
+        for c in word:
+            node = node.children.setdefault(c, Node())
+
+        node.terminal = True
+
+    return root
+
+
+def minimize(node, registry):
+    for c in list(node.children):
+        node.children[c] = minimize(node.children[c], registry)
+
+    key = (node.terminal, tuple(sorted((c, id(child)) for c, child in node.children.items())))
+    return registry.setdefault(key, node)
+
+
+def serialize(root):
+    order = []
+    seen = set()
+    queue = [root]
+
+    while queue:
+        node = queue.pop(0)
+
+        if id(node) not in seen:
+            seen.add(id(node))
+            order.append(node)
+            queue.extend(node.children[c] for c in sorted(node.children))
+
+    offsets = {}
+    offset = HEADER_SIZE
+
+    for node in order:
+        offsets[id(node)] = offset
+        offset += 2 + 6 * len(node.children)
+
+    output = bytearray(struct.pack('>IIII', MAGIC, VERSION, len(order), HEADER_SIZE))
+
+    for node in order:
+        output += struct.pack('>BB', 1 if node.terminal else 0, len(node.children))
+
+        for c in sorted(node.children):
+            output += struct.pack('>Hi', ord(c), offsets[id(node.children[c])])
+
+    return output, len(order)
+
+
+def main():
+    words_path = sys.argv[1] if len(sys.argv) > 1 else os.path.join(DIRECTORY, 'words.txt')
+    output_path = sys.argv[2] if len(sys.argv) > 2 else os.path.join(
+        DIRECTORY, '..', 'src', 'main', 'assets', 'validation_password_dictionary.dawg')
+    words = read_words(words_path)
+    output, node_count = serialize(minimize(build_trie(words), {}))
+
+    with open(output_path, 'wb') as file:
+        file.write(output)
+
+    print('%d words, %d nodes, %d bytes' % (len(words), node_count, len(output)))
+
+
+if __name__ == '__main__':
+    main()
@@ -15,22 +15,30 @@ package de.mrapp.android.validation;
 
 import android.annotation.TargetApi;
 import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
 import android.content.res.TypedArray;
 import android.graphics.PorterDuff;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
 import android.os.Parcel;
 import android.os.Parcelable;
+import android.text.TextUtils;
 import android.util.AttributeSet;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewStub;
 import android.widget.LinearLayout;
 import android.widget.TextView;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
@@ -38,7 +46,6 @@ import androidx.annotation.Nullable;
 import androidx.annotation.StringRes;
 import androidx.core.content.ContextCompat;
 import de.mrapp.util.Condition;
-import de.mrapp.util.datastructure.ListenerList;
 
 /**
  * An abstract base class for all views, whose value should be able to be validated according to the
@@ -80,10 +87,51 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
                 };
 
         /**
-         * True, if the view displays an error, false otherwise.
+         * True, if the outcome of the most recent validation has been saved, false otherwise.
          */
         boolean validated;
 
+        /**
+         * True, if the view has been validated, but the outcome could not be saved, because the
+         * view has too many validators, false otherwise.
+         */
+        boolean revalidate;
+
+        /**
+         * The signature of the validators, which have been used for the most recent validation.
+         */
+        int validatorsSignature;
+
+        /**
+         * A bitmask, which specifies the indices of the validators, which failed during the most
+         * recent validation.
+         */
+        long failedValidatorsMask;
+
+        /**
+         * The index of the validator, whose error message and icon are shown at the left edge of
+         * the view, or -1, if the error message, which is shown, does not belong to a validator of
+         * the view.
+         */
+        int leftValidatorIndex;
+
+        /**
+         * The fingerprint of the value, which has been validated most recently.
+         */
+        long valueFingerprint;
+
+        /**
+         * The error message, which is shown at the left edge of the view, or null, if no error
+         * message is shown.
+         */
+        CharSequence leftErrorMessage;
+
+        /**
+         * The error message, which is shown at the right edge of the view, or null, if no error
+         * message is shown.
+         */
+        CharSequence rightErrorMessage;
+
         /**
          * True, if the view's value should be automatically validated, when the value has been
          * changed, false otherwise.
@@ -96,6 +144,12 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
          */
         boolean validateOnFocusLost;
 
+        /**
+         * The policy, which specifies whether the validation should be stopped at the first
+         * validator, which fails, or not.
+         */
+        ValidationPolicy validationPolicy;
+
         /**
          * Creates a new data structure, which allows to store the internal state of a {@link
          * EditText}. This constructor is used when reading from a parcel. It reads the state of the
@@ -108,8 +162,16 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
         private SavedState(@NonNull final Parcel source) {
             super(source);
             validated = source.readInt() == 1;
+            revalidate = source.readInt() == 1;
+            validatorsSignature = source.readInt();
+            failedValidatorsMask = source.readLong();
+            leftValidatorIndex = source.readInt();
+            valueFingerprint = source.readLong();
+            leftErrorMessage = TextUtils.CHAR_SEQUENCE_CREATOR.createFromParcel(source);
+            rightErrorMessage = TextUtils.CHAR_SEQUENCE_CREATOR.createFromParcel(source);
             validateOnValueChange = source.readInt() == 1;
             validateOnFocusLost = source.readInt() == 1;
+            validationPolicy = ValidationPolicy.values()[source.readInt()];
         }
 
         /**
@@ -128,12 +190,332 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
         public final void writeToParcel(final Parcel destination, final int flags) {
             super.writeToParcel(destination, flags);
             destination.writeInt(validated ? 1 : 0);
+            destination.writeInt(revalidate ? 1 : 0);
+            destination.writeInt(validatorsSignature);
+            destination.writeLong(failedValidatorsMask);
+            destination.writeInt(leftValidatorIndex);
+            destination.writeLong(valueFingerprint);
+            TextUtils.writeToParcel(leftErrorMessage, destination, flags);
+            TextUtils.writeToParcel(rightErrorMessage, destination, flags);
             destination.writeInt(validateOnValueChange ? 1 : 0);
             destination.writeInt(validateOnFocusLost ? 1 : 0);
+            destination.writeInt(validationPolicy.ordinal());
+        }
+
+    }
+
+    /**
+     * A model, which represents the state of a text view, which is used to show messages. It
+     * allows to only apply those properties to the text view, which have actually been changed.
+     */
+    private static final class MessageState {
+
+        /**
+         * The text, which is currently shown.
+         */
+        private CharSequence text;
+
+        /**
+         * The icon, which is currently shown.
+         */
+        private Drawable icon;
+
+        /**
+         * The color of the text, which is currently shown.
+         */
+        private int color;
+
+        /**
+         * True, if a color has already been applied to the text view, false otherwise.
+         */
+        private boolean colorApplied;
+
+        /**
+         * True, if the text, which is currently shown, is highlighted as an error, false
+         * otherwise.
+         */
+        private boolean error;
+
+        /**
+         * True, if the text view is currently visible, false otherwise.
+         */
+        private boolean visible;
+
+        /**
+         * The buffer, which contains the characters, which are currently shown, if they have been
+         * shown by using the method {@link #show(TextView, char[], int, int, boolean)}, or null,
+         * if no buffer has been allocated yet.
+         */
+        private char[] chars;
+
+        /**
+         * The number of characters in the buffer, which are currently shown, or -1, if the text,
+         * which is currently shown, has not been shown from the buffer.
+         */
+        private int charsLength = -1;
+
+        /**
+         * Returns, whether the buffer contains specific characters, or not.
+         *
+         * @param text
+         *         An array, which contains the characters, which should be compared, as a {@link
+         *         Character} array. The array may not be null
+         * @param length
+         *         The number of characters, which should be compared, as an {@link Integer} value
+         * @return True, if the buffer contains the given characters, false otherwise
+         */
+        private boolean isSameChars(@NonNull final char[] text, final int length) {
+            if (charsLength != length) {
+                return false;
+            }
+
+            for (int i = 0; i < length; i++) {
+                if (chars[i] != text[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Returns, whether two texts are known to be equal, or not. Only strings are compared by
+         * their content, because other texts may contain spans, which are not taken into account
+         * by a comparison of their characters.
+         *
+         * @param text1
+         *         The first text as an instance of the type {@link CharSequence} or null
+         * @param text2
+         *         The second text as an instance of the type {@link CharSequence} or null
+         * @return True, if the given texts are known to be equal, false otherwise
+         */
+        private static boolean isSameText(@Nullable final CharSequence text1,
+                                          @Nullable final CharSequence text2) {
+            return text1 == text2 || (text1 instanceof String && text1.equals(text2));
+        }
+
+        /**
+         * Shows a specific text by using a specific text view.
+         *
+         * @param textView
+         *         The text view, which should be used to show the text, as an instance of the class
+         *         {@link TextView}. The text view may not be null
+         * @param text
+         *         The text, which should be shown, as an instance of the type {@link CharSequence}.
+         *         The text may not be null
+         * @param icon
+         *         The icon, which should be shown, as an instance of the class {@link Drawable} or
+         *         null, if no icon should be shown
+         * @param color
+         *         The color of the text, which should be shown, as an {@link Integer} value
+         * @param error
+         *         True, if the text is highlighted as an error, false otherwise
+         */
+        void show(@NonNull final TextView textView, @NonNull final CharSequence text,
+                  @Nullable final Drawable icon, @ColorInt final int color,
+                  final boolean error) {
+            if (!isSameText(this.text, text)) {
+                this.text = text;
+                this.charsLength = -1;
+                textView.setText(text);
+            }
+
+            showIcon(textView, icon, color, error);
+        }
+
+        /**
+         * Shows specific characters by using a specific text view. The characters are copied to a
+         * buffer, which is reused, and shown from there, so the text view does not need to copy
+         * them into a new string.
+         *
+         * @param textView
+         *         The text view, which should be used to show the characters, as an instance of the
+         *         class {@link TextView}. The text view may not be null
+         * @param text
+         *         An array, which contains the characters, which should be shown, as a {@link
+         *         Character} array. The array may not be null
+         * @param length
+         *         The number of characters, which should be shown, as an {@link Integer} value
+         * @param color
+         *         The color of the text, which should be shown, as an {@link Integer} value
+         * @param error
+         *         True, if the text is highlighted as an error, false otherwise
+         */
+        void show(@NonNull final TextView textView, @NonNull final char[] text, final int length,
+                  @ColorInt final int color, final boolean error) {
+            if (!isSameChars(text, length)) {
+                if (chars == null || chars.length < length) {
+                    chars = new char[length];
+                }
+
+                System.arraycopy(text, 0, chars, 0, length);
+                charsLength = length;
+                textView.setText(chars, 0, length);
+                this.text = textView.getText();
+            }
+
+            showIcon(textView, null, color, error);
+        }
+
+        /**
+         * Applies a specific icon and color to a specific text view and makes it visible, after
+         * its text has been set.
+         *
+         * @param textView
+         *         The text view as an instance of the class {@link TextView}. The text view may not
+         *         be null
+         * @param icon
+         *         The icon, which should be shown, as an instance of the class {@link Drawable} or
+         *         null, if no icon should be shown
+         * @param color
+         *         The color of the text as an {@link Integer} value
+         * @param error
+         *         True, if the text is highlighted as an error, false otherwise
+         */
+        private void showIcon(@NonNull final TextView textView, @Nullable final Drawable icon,
+                              @ColorInt final int color, final boolean error) {
+            if (this.icon != icon) {
+                this.icon = icon;
+                textView.setCompoundDrawablesWithIntrinsicBounds(icon, null, null, null);
+            }
+
+            setColor(textView, color);
+            this.error = error;
+
+            if (!visible) {
+                visible = true;
+                textView.setVisibility(View.VISIBLE);
+            }
+        }
+
+        /**
+         * Hides a specific text view.
+         *
+         * @param textView
+         *         The text view, which should be hidden, as an instance of the class {@link
+         *         TextView}. The text view may not be null
+         */
+        void hide(@NonNull final TextView textView) {
+            error = false;
+
+            if (visible) {
+                visible = false;
+                textView.setVisibility(View.GONE);
+            }
+        }
+
+        /**
+         * Sets the text color of a specific text view.
+         *
+         * @param textView
+         *         The text view, whose text color should be set, as an instance of the class {@link
+         *         TextView}. The text view may not be null
+         * @param color
+         *         The color, which should be set, as an {@link Integer} value
+         */
+        void setColor(@NonNull final TextView textView, @ColorInt final int color) {
+            if (!colorApplied || this.color != color) {
+                this.color = color;
+                this.colorApplied = true;
+                textView.setTextColor(color);
+            }
         }
 
     }
 
+    /**
+     * Defines the interface, a class, which should be notified, when the value of a view has been
+     * changed, must implement.
+     */
+    interface ValueObserver {
+
+        /**
+         * The method, which is invoked, when the value of a view has been changed.
+         *
+         * @param view
+         *         The view, whose value has been changed, as an instance of the class {@link
+         *         AbstractValidateableView}. The view may not be null
+         */
+        void onValueChanged(@NonNull AbstractValidateableView<?, ?> view);
+
+    }
+
+    /**
+     * The result of evaluating the validators of a view, before it is applied to the view.
+     *
+     * @param <ValueType>
+     *         The type of the values, which are validated
+     */
+    static final class Evaluation<ValueType> {
+
+        /**
+         * The generation of the validation, the evaluation belongs to.
+         */
+        int generation;
+
+        /**
+         * The fingerprint of the value, which has been validated.
+         */
+        long valueFingerprint;
+
+        /**
+         * The version of the validators, which have been used.
+         */
+        int validatorsVersion;
+
+        /**
+         * True, if the validation is stopped at the first validator, which fails, false
+         * otherwise.
+         */
+        boolean failFast;
+
+        /**
+         * The snapshot of the value, which has been validated.
+         */
+        ValueType value;
+
+        /**
+         * The validator, whose error message should be shown at the left edge of the view, or
+         * null, if no synchronous validator failed.
+         */
+        Validator<ValueType> leftValidator;
+
+        /**
+         * The validator, whose error message should be shown at the right edge of the view, or
+         * null, if no error message should be shown at the right edge.
+         */
+        Validator<ValueType> rightValidator;
+
+        /**
+         * A list, which contains all validators, which failed.
+         */
+        final List<Validator<ValueType>> failedValidators = new ArrayList<>();
+
+        /**
+         * A list, which contains the asynchronous validators, which must still be executed, or
+         * null, if no asynchronous validators must be executed.
+         */
+        List<AsyncValidator<ValueType>> asyncValidators;
+
+        /**
+         * True, if demoted validators have been skipped, false otherwise.
+         */
+        boolean partial;
+
+    }
+
+    /**
+     * The maximum number of validators, whose outcome can be saved as a bitmask.
+     */
+    private static final int MAX_SAVED_VALIDATORS = Long.SIZE;
+
+    /**
+     * The fingerprint, which indicates that the fingerprint of a view's value cannot be computed.
+     * If this fingerprint is returned by the method {@link #getValueFingerprint()}, the value is
+     * always validated.
+     */
+    protected static final long NO_FINGERPRINT = Long.MIN_VALUE;
+
     /**
      * True, if the view's value should be automatically validated, when the value has been changed,
      * by default, false otherwise.
@@ -146,6 +528,27 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
      */
     private static final boolean DEFAULT_VALIDATE_ON_FOCUS_LOST = true;
 
+    /**
+     * The policy, which specifies whether the validation should be stopped at the first validator,
+     * which fails, or not, by default.
+     */
+    private static final ValidationPolicy DEFAULT_VALIDATION_POLICY = ValidationPolicy.AUTOMATIC;
+
+    /**
+     * The value, which corresponds to the enum value <code>ValidationPolicy.AUTOMATIC</code>.
+     */
+    private static final int VALIDATION_POLICY_AUTOMATIC_VALUE = 0;
+
+    /**
+     * The value, which corresponds to the enum value <code>ValidationPolicy.FAIL_FAST</code>.
+     */
+    private static final int VALIDATION_POLICY_FAIL_FAST_VALUE = 1;
+
+    /**
+     * The value, which corresponds to the enum value <code>ValidationPolicy.COLLECT_ALL</code>.
+     */
+    private static final int VALIDATION_POLICY_COLLECT_ALL_VALUE = 2;
+
     /**
      * The parent view of the view, whose value should be able to be validated.
      */
@@ -157,15 +560,60 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
     private ViewType view;
 
     /**
-     * The text view, which may be used to show messages at the left edge of the view.
+     * The stub, which is replaced by the text views, which are used to show messages, once a
+     * message is shown for the first time, or null, if the text views have already been inflated.
+     */
+    private ViewStub messagesStub;
+
+    /**
+     * The text view, which may be used to show messages at the left edge of the view, or null, if
+     * it has not been inflated yet.
      */
     private TextView leftMessage;
 
     /**
-     * The text view, which may be used to show messages at the right edge of the view.
+     * The text view, which may be used to show messages at the right edge of the view, or null,
+     * if it has not been inflated yet.
      */
     private TextView rightMessage;
 
+    /**
+     * The state of the text view, which is used to show messages at the left edge of the view.
+     */
+    private MessageState leftMessageState;
+
+    /**
+     * The validator, whose error message and icon are shown at the left edge of the view, or null,
+     * if no error message of a validator is shown.
+     */
+    private Validator<ValueType> leftMessageValidator;
+
+    /**
+     * The state of the text view, which is used to show messages at the right edge of the view.
+     */
+    private MessageState rightMessageState;
+
+    /**
+     * The color of the theme attribute <code>android.R.attr.colorAccent</code>.
+     */
+    private int accentColor;
+
+    /**
+     * True, if the color of the theme attribute <code>android.R.attr.colorAccent</code> has
+     * already been obtained, false otherwise.
+     */
+    private boolean accentColorObtained;
+
+    /**
+     * The color of the view's line.
+     */
+    private int lineColor;
+
+    /**
+     * True, if a color has already been applied to the view's line, false otherwise.
+     */
+    private boolean lineColorApplied;
+
     /**
      * The helper text, which is shown, when no validation errors are currently shown at the left
      * edge of the view.
@@ -200,10 +648,148 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
     private boolean validateOnFocusLost;
 
     /**
-     * A set, which contains the listeners, which should be notified, when the view has been
+     * The policy, which specifies whether the validation should be stopped at the first validator,
+     * which fails, or not.
+     */
+    private ValidationPolicy validationPolicy;
+
+    /**
+     * An array, which contains the listeners, which should be notified, when the view has been
      * validated.
      */
-    private ListenerList<ValidationListener<ValueType>> listeners;
+    private CopyOnWriteListenerArray<ValidationListener<ValueType>> listeners;
+
+    /**
+     * An array, which contains the listeners, which should be notified once per validation pass.
+     */
+    private CopyOnWriteListenerArray<ValidationEventListener<ValueType>> eventListeners;
+
+    /**
+     * An array, which contains the listeners, which should be notified, when the validity of the
+     * view has been changed.
+     */
+    private CopyOnWriteListenerArray<ValidityListener<ValueType>> validityListeners;
+
+    /**
+     * True, if the value of the view has been valid according to the most recent validation, false
+     * otherwise.
+     */
+    private boolean valid;
+
+    /**
+     * A list, which contains the validators, which failed during the most recent validation.
+     */
+    private List<Validator<ValueType>> lastFailedValidators;
+
+    /**
+     * The evaluation, which is reused by each validation pass, which is not part of a {@link
+     * ValidationGroup}.
+     */
+    private Evaluation<ValueType> evaluation;
+
+    /**
+     * The executor, which is used to execute asynchronous validators.
+     */
+    private Executor asyncValidationExecutor;
+
+    /**
+     * A counter, which is incremented each time the view is validated. It allows to discard the
+     * results of asynchronous validations, which have been started for an outdated value.
+     */
+    private AtomicInteger validationGeneration;
+
+    /**
+     * True, if the results of asynchronous validators are currently pending, false otherwise.
+     */
+    private boolean asyncValidationPending;
+
+    /**
+     * The time in nanoseconds, when the value of the view has been changed, if metrics are
+     * enabled and the result of the validation has not been shown yet, or 0 otherwise.
+     */
+    private long valueChangedNanos;
+
+    /**
+     * The name, which is used to identify the view in metrics, or null, if it has not been
+     * determined yet.
+     */
+    private String metricsName;
+
+    /**
+     * A counter, which is incremented each time the validators of the view are changed.
+     */
+    private int validatorsVersion;
+
+    /**
+     * The fingerprint of the value, which has been validated most recently.
+     */
+    private long lastValueFingerprint;
+
+    /**
+     * The version of the validators, which have been used for the most recent validation.
+     */
+    private int lastValidatorsVersion;
+
+    /**
+     * The result of the most recent validation.
+     */
+    private boolean lastValidationResult;
+
+    /**
+     * True, if the most recent validation has been stopped at the first validator, which failed,
+     * false, if all validators have been executed.
+     */
+    private boolean lastValidationFailFast;
+
+    /**
+     * True, if the result of the most recent validation may be reused, false otherwise.
+     */
+    private boolean validationResultAvailable;
+
+    /**
+     * The number of validators of the type {@link DependentValidator}, which have been added to
+     * the view.
+     */
+    private int dependentValidatorCount;
+
+    /**
+     * The number of dependency graphs, the view has been added to.
+     */
+    private int dependencyGraphCount;
+
+    /**
+     * A set, which contains the observers, which are notified, when the value of the view has
+     * been changed.
+     */
+    private CopyOnWriteListenerArray<ValueObserver> valueObservers;
+
+    /**
+     * The policy, which specifies when slow validators are demoted, or null, if validators are
+     * never demoted.
+     */
+    private AdaptiveValidationPolicy adaptiveValidationPolicy;
+
+    /**
+     * The governor, which tracks the latencies of the validators according to the adaptive
+     * validation policy, or null, if no such policy has been set.
+     */
+    private ValidatorGovernor<ValueType> validatorGovernor;
+
+    /**
+     * True, if demoted validators should currently be skipped, false otherwise.
+     */
+    private boolean skipDemotedValidators;
+
+    /**
+     * True, if demoted validators have been skipped by the current validation, false otherwise.
+     */
+    private boolean demotedValidatorsSkipped;
+
+    /**
+     * The runnable, which validates the value of the view including the demoted validators, once
+     * the value has not been changed for the debounce delay.
+     */
+    private Runnable debouncedValidation;
 
     /**
      * Initializes the view.
@@ -214,7 +800,23 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
      */
     private void initialize(@Nullable final AttributeSet attributeSet) {
         validators = new LinkedHashSet<>();
-        listeners = new ListenerList<>();
+        listeners = new CopyOnWriteListenerArray<>();
+        eventListeners = new CopyOnWriteListenerArray<>();
+        validityListeners = new CopyOnWriteListenerArray<>();
+        valid = false;
+        lastFailedValidators = new ArrayList<>();
+        evaluation = new Evaluation<>();
+        leftMessageState = new MessageState();
+        rightMessageState = new MessageState();
+        asyncValidationExecutor = AsyncValidationExecutor.getInstance();
+        validationGeneration = new AtomicInteger();
+        asyncValidationPending = false;
+        validatorsVersion = 0;
+        validationResultAvailable = false;
+        dependentValidatorCount = 0;
+        dependencyGraphCount = 0;
+        valueObservers = new CopyOnWriteListenerArray<>();
+        debouncedValidation = createDebouncedValidation();
         setOrientation(VERTICAL);
         inflateView();
         inflateErrorMessageTextViews();
@@ -239,6 +841,7 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
             obtainErrorColor(typedArray);
             obtainValidateOnValueChange(typedArray);
             obtainValidateOnFocusLost(typedArray);
+            obtainValidationPolicy(typedArray);
         } finally {
             typedArray.recycle();
         }
@@ -309,6 +912,39 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
                         DEFAULT_VALIDATE_ON_FOCUS_LOST));
     }
 
+    /**
+     * Obtains the policy, which specifies whether the validation should be stopped at the first
+     * validator, which fails, or not, from a specific typed array.
+     *
+     * @param typedArray
+     *         The typed array, the policy should be obtained from, as an instance of the class
+     *         {@link TypedArray}. The typed array may not be null
+     */
+    private void obtainValidationPolicy(@NonNull final TypedArray typedArray) {
+        setValidationPolicy(parseValidationPolicy(typedArray
+                .getInt(R.styleable.AbstractValidateableView_validationPolicy,
+                        VALIDATION_POLICY_AUTOMATIC_VALUE)));
+    }
+
+    /**
+     * Returns the policy, which corresponds to a specific value.
+     *
+     * @param value
+     *         The value, the policy corresponds to, as an {@link Integer} value
+     * @return The policy, which corresponds to the given value, as a value of the enum {@link
+     * ValidationPolicy}
+     */
+    private ValidationPolicy parseValidationPolicy(final int value) {
+        switch (value) {
+            case VALIDATION_POLICY_FAIL_FAST_VALUE:
+                return ValidationPolicy.FAIL_FAST;
+            case VALIDATION_POLICY_COLLECT_ALL_VALUE:
+                return ValidationPolicy.COLLECT_ALL;
+            default:
+                return DEFAULT_VALIDATION_POLICY;
+        }
+    }
+
     /**
      * Inflates the view, whose value should be able to be validated.
      */
@@ -328,15 +964,26 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
     }
 
     /**
-     * Inflates the text views, which are used to show validation errors.
+     * Adds a stub, which is replaced by the text views, which are used to show validation errors,
+     * once a message is shown for the first time. Most views never show a message, so the text
+     * views are not inflated up front.
      */
     private void inflateErrorMessageTextViews() {
-        View parent = View.inflate(getContext(), R.layout.error_messages, null);
-        addView(parent, LayoutParams.MATCH_PARENT, LayoutParams.WRAP_CONTENT);
-        leftMessage = parent.findViewById(R.id.left_error_message);
-        leftMessage.setTag(false);
-        rightMessage = parent.findViewById(R.id.right_error_message);
-        rightMessage.setTag(false);
+        messagesStub = new ViewStub(getContext(), R.layout.error_messages);
+        addView(messagesStub, LayoutParams.MATCH_PARENT, LayoutParams.WRAP_CONTENT);
+    }
+
+    /**
+     * Inflates the text views, which are used to show validation errors, if they have not been
+     * inflated yet.
+     */
+    private void ensureErrorMessageTextViews() {
+        if (messagesStub != null) {
+            View parent = messagesStub.inflate();
+            messagesStub = null;
+            leftMessage = parent.findViewById(R.id.left_error_message);
+            rightMessage = parent.findViewById(R.id.right_error_message);
+        }
     }
 
     /**
@@ -352,7 +999,7 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
             @Override
             public final void onFocusChange(final View view, final boolean hasFocus) {
                 if (!hasFocus && isValidatedOnFocusLost()) {
-                    validate();
+                    validateAutomatically();
                 }
             }
 
@@ -360,53 +1007,248 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
     }
 
     /**
-     * Notifies all registered listeners, that a validation succeeded.
+     * Notifies all registered listeners about the result of a validation pass. Listeners of the
+     * type {@link ValidationListener} are notified about each validator, which failed, or about
+     * the validation's success. Listeners of the type {@link ValidationEventListener} are notified
+     * once by using a pooled event. Listeners of the type {@link ValidityListener} are only
+     * notified, if the validity of the view has been changed.
+     *
+     * @param failedValidators
+     *         A list, which contains the validators, which failed, as an instance of the type
+     *         {@link List} or an empty list, if the validation succeeded
      */
-    private void notifyOnValidationSuccess() {
-        for (ValidationListener<ValueType> listener : listeners) {
-            listener.onValidationSuccess(this);
+    @SuppressWarnings("unchecked")
+    private void notifyOnValidated(@NonNull final List<Validator<ValueType>> failedValidators) {
+        Object[] listenerSnapshot = listeners.getSnapshot();
+
+        if (failedValidators.isEmpty()) {
+            for (Object listener : listenerSnapshot) {
+                ((ValidationListener<ValueType>) listener).onValidationSuccess(this);
+            }
+        } else {
+            for (int i = 0; i < failedValidators.size(); i++) {
+                Validator<ValueType> validator = failedValidators.get(i);
+
+                for (Object listener : listenerSnapshot) {
+                    ((ValidationListener<ValueType>) listener).onValidationFailure(this, validator);
+                }
+            }
+        }
+
+        Object[] eventListenerSnapshot = eventListeners.getSnapshot();
+
+        if (eventListenerSnapshot.length > 0) {
+            ValidationEvent<ValueType> event = ValidationEvent.obtain(this, failedValidators);
+
+            try {
+                for (Object listener : eventListenerSnapshot) {
+                    ((ValidationEventListener<ValueType>) listener).onValidated(event);
+                }
+            } finally {
+                event.recycle();
+            }
+        }
+
+        if (failedValidators != lastFailedValidators) {
+            lastFailedValidators.clear();
+
+            for (int i = 0; i < failedValidators.size(); i++) {
+                lastFailedValidators.add(failedValidators.get(i));
+            }
         }
+
+        setValid(failedValidators.isEmpty());
     }
 
     /**
-     * Notifies all registered listeners, that a validation failed.
+     * Sets, whether the value of the view is valid, or not. If the validity has been changed, the
+     * listeners of the type {@link ValidityListener} are notified.
      *
-     * @param validator
-     *         The validator, which failed, as an instance of the type {@link Validator}. The
-     *         validator may not be null
+     * @param valid
+     *         True, if the value of the view is valid, false otherwise
+     */
+    @SuppressWarnings("unchecked")
+    private void setValid(final boolean valid) {
+        if (this.valid != valid) {
+            this.valid = valid;
+
+            for (Object listener : validityListeners.getSnapshot()) {
+                ((ValidityListener<ValueType>) listener).onValidityChanged(this, valid);
+            }
+        }
+    }
+
+    /**
+     * Saves the outcome of the most recent validation to a specific saved state. If the view has
+     * not been validated yet, no outcome is saved. If it has too many validators, the view is
+     * validated again, when the state is restored, instead.
+     *
+     * @param savedState
+     *         The saved state, the outcome should be saved to, as an instance of the class {@link
+     *         SavedState}. The saved state may not be null
+     */
+    private void saveValidationOutcome(@NonNull final SavedState savedState) {
+        CharSequence leftErrorMessage = leftMessageState.visible && leftMessageState.error ?
+                leftMessageState.text : null;
+        CharSequence rightErrorMessage = rightMessageState.visible && rightMessageState.error ?
+                rightMessageState.text : null;
+        boolean validated = validationResultAvailable || leftErrorMessage != null ||
+                rightErrorMessage != null;
+        savedState.validated = validated && validators.size() <= MAX_SAVED_VALIDATORS;
+        savedState.revalidate = validated && !savedState.validated;
+
+        if (savedState.validated) {
+            long failedValidatorsMask = 0;
+            int leftValidatorIndex = -1;
+            int index = 0;
+
+            for (Validator<ValueType> validator : validators) {
+                if (lastFailedValidators.contains(validator)) {
+                    failedValidatorsMask |= 1L << index;
+                }
+
+                if (leftErrorMessage != null && validator == leftMessageValidator) {
+                    leftValidatorIndex = index;
+                }
+
+                index++;
+            }
+
+            savedState.validatorsSignature = ValidatorSignature.compute(validators);
+            savedState.failedValidatorsMask = failedValidatorsMask;
+            savedState.leftValidatorIndex = leftValidatorIndex;
+            savedState.valueFingerprint =
+                    validationResultAvailable ? lastValueFingerprint : NO_FINGERPRINT;
+            savedState.leftErrorMessage = leftErrorMessage;
+            savedState.rightErrorMessage = rightErrorMessage;
+        }
+    }
+
+    /**
+     * Restores the outcome of a validation from a specific saved state without executing any
+     * validators. The fingerprint of the validated value is restored as well. This allows to reuse
+     * the outcome, when the value itself is restored afterwards. If the validators of the view
+     * differ from those, the outcome has been saved for, with respect to their classes, error
+     * messages or configurations, the view is validated instead.
+     *
+     * @param savedState
+     *         The saved state, the outcome should be restored from, as an instance of the class
+     *         {@link SavedState}. The saved state may not be null
      */
-    private void notifyOnValidationFailure(@NonNull final Validator<ValueType> validator) {
-        for (ValidationListener<ValueType> listener : listeners) {
-            listener.onValidationFailure(this, validator);
+    private void restoreValidationOutcome(@NonNull final SavedState savedState) {
+        if (savedState.validatorsSignature != ValidatorSignature.compute(validators)) {
+            validateAutomatically();
+            return;
         }
+
+        Validator<ValueType> leftValidator = null;
+        int index = 0;
+        lastFailedValidators.clear();
+
+        for (Validator<ValueType> validator : validators) {
+            if ((savedState.failedValidatorsMask & (1L << index)) != 0) {
+                lastFailedValidators.add(validator);
+            }
+
+            if (index == savedState.leftValidatorIndex) {
+                leftValidator = validator;
+            }
+
+            index++;
+        }
+
+        boolean restoredValid =
+                savedState.leftErrorMessage == null && savedState.rightErrorMessage == null;
+
+        if (leftValidator != null) {
+            setLeftMessage(leftValidator.getErrorMessage(), leftValidator.getIcon());
+            leftMessageValidator = leftValidator;
+        } else {
+            setLeftMessage(savedState.leftErrorMessage, null);
+        }
+
+        setRightMessage(savedState.rightErrorMessage);
+        onValidate(restoredValid);
+        applyLineState(!restoredValid);
+        lastValueFingerprint = savedState.valueFingerprint;
+        lastValidatorsVersion = validatorsVersion;
+        lastValidationResult = restoredValid;
+        lastValidationFailFast = true;
+        validationResultAvailable = true;
+        setValid(restoredValid);
     }
 
     /**
      * Validates the current value of the view in order to retrieve the error message and icon,
      * which should be shown at the left edge of the view, if a validation fails.
      *
+     * @param value
+     *         The snapshot of the value, which should be validated, as an instance of the generic
+     *         type ValueType
+     * @param failFast
+     *         True, if the validation should be stopped at the first validator, which fails, false
+     *         otherwise
+     * @param failedValidators
+     *         The list, the validators, which failed, should be added to, as an instance of the
+     *         type {@link List}. The list may not be null
      * @return The validator, which failed or null, if the validation succeeded
      */
-    private Validator<ValueType> validateLeft() {
+    private Validator<ValueType> validateLeft(final ValueType value, final boolean failFast,
+                                              @NonNull final List<Validator<ValueType>>
+                                                      failedValidators) {
         Validator<ValueType> result = null;
-        Collection<Validator<ValueType>> subValidators = onGetLeftErrorMessage();
+        Collection<Validator<ValueType>> subValidators = onGetLeftErrorMessage(value);
 
         if (subValidators != null) {
             for (Validator<ValueType> validator : subValidators) {
-                notifyOnValidationFailure(validator);
+                failedValidators.add(validator);
+
+                if (result == null) {
+                    result = validator;
+
+                    if (failFast) {
+                        return result;
+                    }
+                }
+            }
+        }
+
+        if (validators.isEmpty()) {
+            return result;
+        }
+
+        List<Validator<ValueType>> knownFailedValidators = getKnownFailedValidators(value);
+
+        if (knownFailedValidators != null) {
+            for (Validator<ValueType> validator : knownFailedValidators) {
+                failedValidators.add(validator);
 
                 if (result == null) {
                     result = validator;
+
+                    if (failFast) {
+                        return result;
+                    }
                 }
             }
+
+            return result;
         }
 
         for (Validator<ValueType> validator : validators) {
-            if (!validator.validate(getValue())) {
-                notifyOnValidationFailure(validator);
+            if (skipDemotedValidators && validatorGovernor != null &&
+                    validatorGovernor.isDemoted(validator)) {
+                demotedValidatorsSkipped = true;
+            } else if (!(validator instanceof AsyncValidator) &&
+                    !executeValidator(validator, value)) {
+                failedValidators.add(validator);
 
                 if (result == null) {
                     result = validator;
+
+                    if (failFast) {
+                        return result;
+                    }
                 }
             }
         }
@@ -414,19 +1256,63 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
         return result;
     }
 
+    /**
+     * Executes a specific synchronous validator. If a {@link ValidationWatchdog.Policy} has been
+     * set, the execution is timed in order to detect validators, which exceed the budget. If an
+     * {@link AdaptiveValidationPolicy} has been set, the duration is recorded in order to demote
+     * or promote the validator.
+     *
+     * @param validator
+     *         The validator, which should be executed, as an instance of the type {@link
+     *         Validator}. The validator may not be null
+     * @param value
+     *         The value, which should be validated, as an instance of the generic type ValueType
+     * @return True, if the given value is valid, false otherwise
+     */
+    final boolean executeValidator(@NonNull final Validator<ValueType> validator,
+                                   final ValueType value) {
+        ValidationWatchdog.Policy policy = ValidationWatchdog.getPolicy();
+
+        if (policy == null && validatorGovernor == null) {
+            return ValidationMetrics.validate(validator, value);
+        }
+
+        long start = System.nanoTime();
+        boolean result = ValidationMetrics.validate(validator, value);
+        long duration = System.nanoTime() - start;
+
+        if (validatorGovernor != null) {
+            validatorGovernor.record(validator, duration);
+        }
+
+        if (policy != null) {
+            ValidationWatchdog.check(policy, validator, value, duration);
+        }
+
+        return result;
+    }
+
     /**
      * Validates the current value of the view in order to retrieve the error message and icon,
      * which should be shown at the right edge of the view, if a validation fails.
      *
+     * @param value
+     *         The snapshot of the value, which should be validated, as an instance of the generic
+     *         type ValueType
+     * @param failedValidators
+     *         The list, the validators, which failed, should be added to, as an instance of the
+     *         type {@link List}. The list may not be null
      * @return The validator, which failed or null, if the validation succeeded
      */
-    private Validator<ValueType> validateRight() {
+    private Validator<ValueType> validateRight(final ValueType value,
+                                               @NonNull final List<Validator<ValueType>>
+                                                       failedValidators) {
         Validator<ValueType> result = null;
-        Collection<Validator<ValueType>> subValidators = onGetRightErrorMessage();
+        Collection<Validator<ValueType>> subValidators = onGetRightErrorMessage(value);
 
         if (subValidators != null) {
             for (Validator<ValueType> validator : subValidators) {
-                notifyOnValidationFailure(validator);
+                failedValidators.add(validator);
 
                 if (result == null) {
                     result = validator;
@@ -438,24 +1324,405 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
     }
 
     /**
-     * Returns the color of the theme attribute <code>android.R.attr.colorAccent</code>.
+     * Returns a list, which contains all asynchronous validators, which have been added to the
+     * view.
+     *
+     * @return A list, which contains all asynchronous validators, which have been added to the
+     * view, as an instance of the type {@link List} or null, if no asynchronous validators have
+     * been added
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private List<AsyncValidator<ValueType>> getAsyncValidators() {
+        List<AsyncValidator<ValueType>> result = null;
+
+        if (validators.isEmpty()) {
+            return result;
+        }
+
+        for (Validator<ValueType> validator : validators) {
+            if (validator instanceof AsyncValidator) {
+                if (result == null) {
+                    result = new ArrayList<>();
+                }
+
+                result.add((AsyncValidator<ValueType>) validator);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates and returns a runnable, which allows to execute asynchronous validators on a
+     * background thread.
+     *
+     * @param generation
+     *         The generation of the validation, the asynchronous validators belong to, as an {@link
+     *         Integer} value
+     * @param value
+     *         The immutable copy of the value, which should be validated, as an instance of the
+     *         generic type ValueType
+     * @param asyncValidators
+     *         A list, which contains the asynchronous validators, which should be executed, as an
+     *         instance of the type {@link List}. The list may not be null
+     * @param failFast
+     *         True, if the validation should be stopped at the first validator, which fails, false
+     *         otherwise
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}
+     */
+    private Runnable createAsyncValidationTask(final int generation, final ValueType value,
+                                               @NonNull final List<AsyncValidator<ValueType>>
+                                                       asyncValidators,
+                                               final boolean failFast) {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                List<Validator<ValueType>> failedValidators =
+                        executeAsyncValidators(generation, value, asyncValidators, failFast);
+
+                if (failedValidators != null) {
+                    AsyncValidationExecutor.getInstance().postToMainThread(
+                            createAsyncValidationResultTask(generation, failedValidators));
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a runnable, which allows to apply the result of asynchronous validators
+     * on the UI thread.
+     *
+     * @param generation
+     *         The generation of the validation, the result belongs to, as an {@link Integer} value
+     * @param failedValidators
+     *         A list, which contains the asynchronous validators, which failed, as an instance of
+     *         the type {@link List}. The list may not be null
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}
+     */
+    private Runnable createAsyncValidationResultTask(final int generation,
+                                                     @NonNull final List<Validator<ValueType>>
+                                                             failedValidators) {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                if (generation == validationGeneration.get()) {
+                    asyncValidationPending = false;
+                    Validator<ValueType> leftValidator =
+                            failedValidators.isEmpty() ? null : failedValidators.get(0);
+                    lastValidationResult = applyValidationResult(leftValidator, null);
+                    notifyOnValidated(failedValidators);
+
+                    if (valueChangedNanos != 0) {
+                        recordValueChange();
+                    }
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Executes specific asynchronous validators. This method is supposed to be invoked on a
+     * background thread.
+     *
+     * @param generation
+     *         The generation of the validation, the asynchronous validators belong to, as an {@link
+     *         Integer} value
+     * @param value
+     *         The immutable copy of the value, which should be validated, as an instance of the
+     *         generic type ValueType
+     * @param asyncValidators
+     *         A list, which contains the asynchronous validators, which should be executed, as an
+     *         instance of the type {@link List}. The list may not be null
+     * @param failFast
+     *         True, if the validation should be stopped at the first validator, which fails, false
+     *         otherwise
+     * @return A list, which contains the validators, which failed, as an instance of the type
+     * {@link List} or null, if the validation has become outdated in the meantime
+     */
+    @Nullable
+    final List<Validator<ValueType>> executeAsyncValidators(
+            final int generation, final ValueType value,
+            @NonNull final List<AsyncValidator<ValueType>> asyncValidators,
+            final boolean failFast) {
+        List<Validator<ValueType>> failedValidators = new ArrayList<>();
+
+        for (AsyncValidator<ValueType> validator : asyncValidators) {
+            if (generation != validationGeneration.get()) {
+                return null;
+            }
+
+            if (!ValidationMetrics.validate(validator, value)) {
+                failedValidators.add(validator);
+
+                if (failFast) {
+                    break;
+                }
+            }
+        }
+
+        return generation == validationGeneration.get() ? failedValidators : null;
+    }
+
+    /**
+     * Executes the synchronous validators of the view without adapting its appearance.
+     *
+     * @param evaluation
+     *         The evaluation, the result should be stored in, as an instance of the class {@link
+     *         Evaluation}. The evaluation may not be null
+     * @param automatic
+     *         True, if the value is validated automatically, false, if it is validated explicitly
+     */
+    private void evaluate(@NonNull final Evaluation<ValueType> evaluation,
+                          final boolean automatic) {
+        evaluation.generation = validationGeneration.incrementAndGet();
+        evaluation.valueFingerprint = getValueFingerprint();
+        evaluation.validatorsVersion = validatorsVersion;
+        evaluation.failFast = isFailFast(automatic);
+        evaluation.failedValidators.clear();
+        ValueType value = getValueSnapshot();
+        ValidationTracer tracer = ValidationTracing.getTracer();
+        demotedValidatorsSkipped = false;
+
+        if (tracer == null) {
+            evaluation.leftValidator =
+                    validateLeft(value, evaluation.failFast, evaluation.failedValidators);
+            evaluation.rightValidator = validateRight(value, evaluation.failedValidators);
+        } else {
+            tracer.beginSection(ValidationTracing.SECTION_VALIDATE_LEFT);
+
+            try {
+                evaluation.leftValidator =
+                        validateLeft(value, evaluation.failFast, evaluation.failedValidators);
+            } finally {
+                tracer.endSection();
+            }
+
+            tracer.beginSection(ValidationTracing.SECTION_VALIDATE_RIGHT);
+
+            try {
+                evaluation.rightValidator = validateRight(value, evaluation.failedValidators);
+            } finally {
+                tracer.endSection();
+            }
+        }
+
+        evaluation.partial = demotedValidatorsSkipped;
+        evaluation.asyncValidators = !evaluation.partial && evaluation.leftValidator == null &&
+                evaluation.rightValidator == null ? getAsyncValidators() : null;
+        evaluation.value = evaluation.asyncValidators != null ? getImmutableValue(value) : value;
+    }
+
+    /**
+     * Executes the synchronous validators of the view without adapting its appearance. The view
+     * is validated explicitly. This method is used by a {@link ValidationGroup} in order to
+     * separate the evaluation of validators from adapting the appearance of the view.
+     *
+     * @return The evaluation, which has been created, as an instance of the class {@link
+     * Evaluation}
+     */
+    @NonNull
+    final Evaluation<ValueType> evaluate() {
+        Evaluation<ValueType> result = new Evaluation<>();
+        evaluate(result, false);
+        asyncValidationPending = false;
+        return result;
+    }
+
+    /**
+     * Returns, whether a specific evaluation belongs to the most recent validation of the view, or
+     * not.
+     *
+     * @param evaluation
+     *         The evaluation, which should be checked, as an instance of the class {@link
+     *         Evaluation}. The evaluation may not be null
+     * @return True, if the given evaluation belongs to the most recent validation, false
+     * otherwise
+     */
+    final boolean isCurrent(@NonNull final Evaluation<ValueType> evaluation) {
+        return evaluation.generation == validationGeneration.get();
+    }
+
+    /**
+     * Adapts the appearance of the view depending on a specific evaluation and notifies the
+     * listeners. This method is used by a {@link ValidationGroup}.
+     *
+     * @param evaluation
+     *         The evaluation, which should be applied, as an instance of the class {@link
+     *         Evaluation}. The evaluation may not be null
+     * @param asyncFailedValidators
+     *         A list, which contains the asynchronous validators, which failed, as an instance of
+     *         the type {@link List} or null, if no asynchronous validators have been executed
+     * @return True, if the validation succeeded, false otherwise
+     */
+    final boolean applyEvaluation(@NonNull final Evaluation<ValueType> evaluation,
+                                  @Nullable final List<Validator<ValueType>>
+                                          asyncFailedValidators) {
+        Validator<ValueType> leftValidator = evaluation.leftValidator;
+
+        if (asyncFailedValidators != null && !asyncFailedValidators.isEmpty()) {
+            evaluation.failedValidators.addAll(asyncFailedValidators);
+
+            if (leftValidator == null) {
+                leftValidator = asyncFailedValidators.get(0);
+            }
+        }
+
+        boolean result = applyValidationResult(leftValidator, evaluation.rightValidator);
+        notifyOnValidated(evaluation.failedValidators);
+        rememberValidationResult(evaluation, result);
+        return result;
+    }
+
+    /**
+     * Remembers the result of a validation in order to be able to reuse it, if neither the value,
+     * nor the validators are changed.
+     *
+     * @param evaluation
+     *         The evaluation, the result belongs to, as an instance of the class {@link
+     *         Evaluation}. The evaluation may not be null
+     * @param result
+     *         True, if the validation succeeded, false otherwise
+     */
+    private void rememberValidationResult(@NonNull final Evaluation<ValueType> evaluation,
+                                          final boolean result) {
+        lastValueFingerprint = evaluation.valueFingerprint;
+        lastValidatorsVersion = evaluation.validatorsVersion;
+        lastValidationResult = result;
+        lastValidationFailFast = evaluation.failFast;
+        validationResultAvailable = !evaluation.partial;
+    }
+
+    /**
+     * Adapts the appearance of the view depending on the result of a validation.
+     *
+     * @param leftValidator
+     *         The validator, which failed and whose error message should be shown at the left edge
+     *         of the view, as an instance of the type {@link Validator} or null, if no error
+     *         message should be shown at the left edge
+     * @param rightValidator
+     *         The validator, which failed and whose error message should be shown at the right
+     *         edge of the view, as an instance of the type {@link Validator} or null, if no error
+     *         message should be shown at the right edge
+     * @return True, if the validation succeeded, false otherwise
+     */
+    private boolean applyValidationResult(@Nullable final Validator<ValueType> leftValidator,
+                                          @Nullable final Validator<ValueType> rightValidator) {
+        ValidationTracer tracer = ValidationTracing.getTracer();
+
+        if (tracer == null) {
+            return performApplyValidationResult(leftValidator, rightValidator);
+        }
+
+        tracer.beginSection(ValidationTracing.SECTION_APPLY);
+
+        try {
+            return performApplyValidationResult(leftValidator, rightValidator);
+        } finally {
+            tracer.endSection();
+        }
+    }
+
+    /**
+     * Adapts the appearance of the view depending on the result of a validation, without tracing
+     * it.
+     *
+     * @param leftValidator
+     *         The validator, which failed and whose error message should be shown at the left edge
+     *         of the view, as an instance of the type {@link Validator} or null, if no error
+     *         message should be shown at the left edge
+     * @param rightValidator
+     *         The validator, which failed and whose error message should be shown at the right
+     *         edge of the view, as an instance of the type {@link Validator} or null, if no error
+     *         message should be shown at the right edge
+     * @return True, if the validation succeeded, false otherwise
+     */
+    private boolean performApplyValidationResult(
+            @Nullable final Validator<ValueType> leftValidator,
+            @Nullable final Validator<ValueType> rightValidator) {
+        setLeftMessage(leftValidator != null ? leftValidator.getErrorMessage() : null,
+                leftValidator != null ? leftValidator.getIcon() : null);
+        leftMessageValidator = leftValidator;
+        setRightErrorMessage(rightValidator);
+
+        if (leftValidator == null && rightValidator == null) {
+            onValidate(true);
+            applyLineState(false);
+            return true;
+        }
+
+        onValidate(false);
+        applyLineState(true);
+        return false;
+    }
+
+    /**
+     * Adapts the activated state and the color of the view's line, if they differ from the
+     * currently applied ones.
+     *
+     * @param error
+     *         True, if the view should indicate a validation error, false otherwise
+     */
+    private void applyLineState(final boolean error) {
+        if (isActivated() != error) {
+            setActivated(error);
+        }
+
+        setLineColor(error ? getErrorColor() : getAccentColor());
+    }
+
+    /**
+     * Returns, whether the validation should be stopped at the first validator, which fails,
+     * depending on the view's validation policy.
+     *
+     * @param automatic
+     *         True, if the value is validated automatically, false, if it is validated explicitly
+     * @return True, if the validation should be stopped at the first validator, which fails, false
+     * otherwise
+     */
+    private boolean isFailFast(final boolean automatic) {
+        return validationPolicy == ValidationPolicy.FAIL_FAST ||
+                (validationPolicy == ValidationPolicy.AUTOMATIC && automatic);
+    }
+
+    /**
+     * Returns the color of the theme attribute <code>android.R.attr.colorAccent</code>. The color
+     * is cached until the configuration is changed.
      *
      * @return The color of the theme attribute <code>android.R.attr.colorAccent</code>
      */
     private int getAccentColor() {
-        TypedArray typedArray =
-                getContext().getTheme().obtainStyledAttributes(new int[]{R.attr.colorAccent});
-        return typedArray.getColor(0, 0);
+        if (!accentColorObtained) {
+            TypedArray typedArray =
+                    getContext().getTheme().obtainStyledAttributes(new int[]{R.attr.colorAccent});
+
+            try {
+                accentColor = typedArray.getColor(0, 0);
+                accentColorObtained = true;
+            } finally {
+                typedArray.recycle();
+            }
+        }
+
+        return accentColor;
     }
 
     /**
-     * Sets the color of the view's line.
+     * Sets the color of the view's line, if it differs from the currently applied color.
      *
      * @param color
      *         The color, which should be set, as an {@link Integer} value
      */
     private void setLineColor(@ColorInt final int color) {
-        view.getBackground().setColorFilter(color, PorterDuff.Mode.SRC_ATOP);
+        if (!lineColorApplied || lineColor != color) {
+            lineColor = color;
+            lineColorApplied = true;
+            view.getBackground().setColorFilter(color, PorterDuff.Mode.SRC_ATOP);
+        }
     }
 
     /**
@@ -544,17 +1811,16 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
      */
     protected final void setLeftMessage(@Nullable final CharSequence message,
                                         @Nullable final Drawable icon, final boolean error) {
+        leftMessageValidator = null;
+
         if (message != null) {
-            leftMessage.setText(message);
-            leftMessage.setCompoundDrawablesWithIntrinsicBounds(icon, null, null, null);
-            leftMessage.setTextColor(error ? getErrorColor() : getHelperTextColor());
-            leftMessage.setTag(error);
-            leftMessage.setVisibility(View.VISIBLE);
+            ensureErrorMessageTextViews();
+            leftMessageState.show(leftMessage, message, icon,
+                    error ? getErrorColor() : getHelperTextColor(), error);
         } else if (getHelperText() != null) {
             setLeftMessage(getHelperText(), null, false);
-        } else {
-            leftMessage.setTag(false);
-            leftMessage.setVisibility(View.GONE);
+        } else if (leftMessage != null) {
+            leftMessageState.hide(leftMessage);
         }
     }
 
@@ -581,27 +1847,78 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
     protected final void setRightMessage(@Nullable final CharSequence message,
                                          final boolean error) {
         if (message != null) {
-            rightMessage.setVisibility(View.VISIBLE);
-            rightMessage.setText(message);
-            rightMessage.setTextColor(error ? getErrorColor() : getHelperTextColor());
-            rightMessage.setTag(error);
-        } else {
-            rightMessage.setTag(false);
-            rightMessage.setVisibility(View.GONE);
+            ensureErrorMessageTextViews();
+            rightMessageState.show(rightMessage, message, null,
+                    error ? getErrorColor() : getHelperTextColor(), error);
+        } else if (rightMessage != null) {
+            rightMessageState.hide(rightMessage);
         }
     }
 
+    /**
+     * Shows specific characters at the right edge of the view. Unlike the method {@link
+     * #setRightMessage(CharSequence, boolean)}, this does not require to create a new text, each
+     * time the message is changed.
+     *
+     * @param message
+     *         An array, which contains the characters, which should be shown, as a {@link
+     *         Character} array. The array may not be null
+     * @param length
+     *         The number of characters, which should be shown, as an {@link Integer} value
+     * @param error
+     *         True, if the message should be highlighted as an error, false otherwise
+     */
+    final void setRightMessage(@NonNull final char[] message, final int length,
+                               final boolean error) {
+        ensureErrorMessageTextViews();
+        rightMessageState.show(rightMessage, message, length,
+                error ? getErrorColor() : getHelperTextColor(), error);
+    }
+
+    /**
+     * Shows the error message of a specific validator, which failed, at the right edge of the
+     * view. This method may be overridden by subclasses in order to show the error message
+     * without creating a new text.
+     *
+     * @param validator
+     *         The validator, whose error message should be shown, as an instance of the type
+     *         {@link Validator} or null, if no error message should be shown at the right edge
+     */
+    void setRightErrorMessage(@Nullable final Validator<ValueType> validator) {
+        setRightMessage(validator != null ? validator.getErrorMessage() : null);
+    }
+
+    /**
+     * The method, which is invoked in order to validate the current value of the view and to
+     * retrieve the error message, which should be shown at the left edge of the view, if a
+     * validation fails. This method may be overridden by subclasses in order to perform internal
+     * validations.
+     *
+     * @return A collection, which contains the validators, which failed or null, if the validation
+     * succeeded, as an instance of the type {@link Collection}
+     * @deprecated Override the method {@link #onGetLeftErrorMessage(Object)} instead, which
+     * receives the snapshot of the value, which is validated
+     */
+    @Deprecated
+    protected Collection<Validator<ValueType>> onGetLeftErrorMessage() {
+        return null;
+    }
+
     /**
      * The method, which is invoked in order to validate the current value of the view and to
      * retrieve the error message, which should be shown at the left edge of the view, if a
      * validation fails. This method may be overridden by subclasses in order to perform internal
-     * validations.
+     * validations. By default, the method {@link #onGetLeftErrorMessage()} is invoked.
      *
+     * @param value
+     *         The snapshot of the value, which should be validated, as an instance of the generic
+     *         type ValueType
      * @return A collection, which contains the validators, which failed or null, if the validation
      * succeeded, as an instance of the type {@link Collection}
      */
-    protected Collection<Validator<ValueType>> onGetLeftErrorMessage() {
-        return null;
+    @SuppressWarnings("deprecation")
+    protected Collection<Validator<ValueType>> onGetLeftErrorMessage(final ValueType value) {
+        return onGetLeftErrorMessage();
     }
 
     /**
@@ -610,13 +1927,33 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
      * validation fails. This method may be overridden by subclasses in order to perform internal
      * validations.
      *
-     * @return TA collection, which contains the validators, which failed or null, if the validation
+     * @return A collection, which contains the validators, which failed or null, if the validation
      * succeeded, as an instance of the type {@link Collection}
+     * @deprecated Override the method {@link #onGetRightErrorMessage(Object)} instead, which
+     * receives the snapshot of the value, which is validated
      */
+    @Deprecated
     protected Collection<Validator<ValueType>> onGetRightErrorMessage() {
         return null;
     }
 
+    /**
+     * The method, which is invoked in order to validate the current value of the view and to
+     * retrieve the error message, which should be shown at the right edge of the view, if a
+     * validation fails. This method may be overridden by subclasses in order to perform internal
+     * validations. By default, the method {@link #onGetRightErrorMessage()} is invoked.
+     *
+     * @param value
+     *         The snapshot of the value, which should be validated, as an instance of the generic
+     *         type ValueType
+     * @return A collection, which contains the validators, which failed or null, if the validation
+     * succeeded, as an instance of the type {@link Collection}
+     */
+    @SuppressWarnings("deprecation")
+    protected Collection<Validator<ValueType>> onGetRightErrorMessage(final ValueType value) {
+        return onGetRightErrorMessage();
+    }
+
     /**
      * The method, which is invoked when the value of the view has been validated. This method may
      * be overridden by subclasses in order to adapt the view depending on the validation result.
@@ -652,6 +1989,207 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
      */
     protected abstract ValueType getValue();
 
+    /**
+     * The method, which is invoked in order to retrieve a snapshot of the current value of the
+     * view. The snapshot is taken once per validation pass and it is shared by all validators. This
+     * method may be overridden by subclasses, whose values are mutable.
+     *
+     * @return The snapshot of the current value of the view as an instance of the generic type
+     * ValueType
+     */
+    protected ValueType getValueSnapshot() {
+        return getValue();
+    }
+
+    /**
+     * The method, which is invoked in order to retrieve an immutable copy of a snapshot, which has
+     * been obtained by using the method {@link #getValueSnapshot()}. The copy is passed to
+     * asynchronous validators. This method may be overridden by subclasses, whose snapshots are
+     * reused across validation passes.
+     *
+     * @param snapshot
+     *         The snapshot, an immutable copy should be retrieved for, as an instance of the
+     *         generic type ValueType
+     * @return An immutable copy of the given snapshot as an instance of the generic type
+     * ValueType
+     */
+    protected ValueType getImmutableValue(final ValueType snapshot) {
+        return snapshot;
+    }
+
+    /**
+     * The method, which is invoked in order to retrieve a cheap fingerprint of the current value
+     * of the view. If the fingerprint, as well as the view's validators, have not been changed
+     * since the most recent validation, the previous validation result is reused. This method may
+     * be overridden by subclasses. By default, {@link #NO_FINGERPRINT} is returned, which causes
+     * the value to be validated each time.
+     *
+     * @return The fingerprint of the current value of the view as a {@link Long} value or {@link
+     * #NO_FINGERPRINT}, if no fingerprint can be computed
+     */
+    protected long getValueFingerprint() {
+        return NO_FINGERPRINT;
+    }
+
+    /**
+     * Invalidates the result of the most recent validation. This causes the value of the view to
+     * be validated the next time the method {@link #validate()} is invoked, even if neither the
+     * value, nor the validators have been changed. This method should be invoked by subclasses, if
+     * internal properties, which influence the validation, have been changed.
+     */
+    protected final void invalidateValidationResult() {
+        validationResultAvailable = false;
+    }
+
+    /**
+     * Notifies the observers, which have been registered by dependency graphs, that the value of
+     * the view has been changed. This method must be invoked by subclasses whenever the value of
+     * the view is changed, after the view has been validated automatically, if necessary.
+     */
+    protected final void notifyOnValueChanged() {
+        for (Object observer : valueObservers.getSnapshot()) {
+            ((ValueObserver) observer).onValueChanged(this);
+        }
+    }
+
+    /**
+     * Returns the synchronous validators, which fail for a specific value, if they are already
+     * known, e.g. because they have been precomputed. This allows subclasses to skip the execution
+     * of the validators. By default, null is returned.
+     *
+     * @param value
+     *         The snapshot of the value, which is validated, as an instance of the generic type
+     *         ValueType
+     * @return A list, which contains the synchronous validators, which fail for the given value, in
+     * the order they have been added, as an instance of the type {@link List} or null, if the
+     * validators must be executed
+     */
+    @Nullable
+    List<Validator<ValueType>> getKnownFailedValidators(final ValueType value) {
+        return null;
+    }
+
+    /**
+     * Returns the name, which is used to identify the view in metrics. The name consists of the
+     * view's class name and its resource id, if available.
+     *
+     * @return The name, which is used to identify the view in metrics, as a {@link String}
+     */
+    @NonNull
+    private String getMetricsName() {
+        if (metricsName == null) {
+            String name = getClass().getSimpleName();
+
+            if (getId() != NO_ID) {
+                try {
+                    name += "#" + getResources().getResourceEntryName(getId());
+                } catch (Resources.NotFoundException e) {
+                    name += "#" + getId();
+                }
+            }
+
+            metricsName = name;
+        }
+
+        return metricsName;
+    }
+
+    /**
+     * Records the time between the value of the view being changed and the result of its
+     * validation being shown, if metrics are enabled.
+     */
+    private void recordValueChange() {
+        ValidationMetrics metrics = ValidationMetrics.getActive();
+
+        if (metrics != null) {
+            metrics.recordValueChange(getMetricsName(), System.nanoTime() - valueChangedNanos);
+        }
+
+        valueChangedNanos = 0;
+    }
+
+    /**
+     * The method, which must be invoked by subclasses, before a change of the view's value is
+     * handled, in order to measure the time until the result of its validation is shown, if
+     * metrics are enabled.
+     */
+    final void onValueChangeStarted() {
+        if (valueChangedNanos == 0 && ValidationMetrics.getActive() != null) {
+            valueChangedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * The method, which must be invoked by subclasses, after a change of the view's value has been
+     * handled. If the results of asynchronous validators are pending, the time is measured until
+     * they have been shown.
+     */
+    final void onValueChangeHandled() {
+        if (valueChangedNanos != 0 && !asyncValidationPending) {
+            recordValueChange();
+        }
+    }
+
+    /**
+     * Returns, whether the view has already been validated and the result of the validation has
+     * not been invalidated since then, or not.
+     *
+     * @return True, if the view has already been validated and the result has not been
+     * invalidated since then, false otherwise
+     */
+    final boolean isValidationResultAvailable() {
+        return validationResultAvailable;
+    }
+
+    /**
+     * Returns the version of the view's validators. It is incremented each time the validators
+     * are changed.
+     *
+     * @return The version of the view's validators as an {@link Integer} value
+     */
+    final int getValidatorsVersion() {
+        return validatorsVersion;
+    }
+
+    /**
+     * The method, which is invoked, when the view has been added to a dependency graph. As long as
+     * the view is contained by a dependency graph, the results of validators of the type {@link
+     * DependentValidator} may be reused, because the graph takes care of invalidating them.
+     */
+    final void onAddedToDependencyGraph() {
+        dependencyGraphCount++;
+    }
+
+    /**
+     * The method, which is invoked, when the view has been removed from a dependency graph.
+     */
+    final void onRemovedFromDependencyGraph() {
+        dependencyGraphCount--;
+    }
+
+    /**
+     * Adds a new observer, which should be notified, when the value of the view has been changed.
+     *
+     * @param observer
+     *         The observer, which should be added, as an instance of the type {@link
+     *         ValueObserver}. The observer may not be null
+     */
+    final void addValueObserver(@NonNull final ValueObserver observer) {
+        valueObservers.add(observer);
+    }
+
+    /**
+     * Removes a specific observer, which should not be notified, when the value of the view has
+     * been changed, anymore.
+     *
+     * @param observer
+     *         The observer, which should be removed, as an instance of the type {@link
+     *         ValueObserver}. The observer may not be null
+     */
+    final void removeValueObserver(@NonNull final ValueObserver observer) {
+        valueObservers.remove(observer);
+    }
+
     /**
      * Creates a new view, which allows to enter text.
      *
@@ -739,7 +2277,12 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
     @Override
     public final void addValidator(@NonNull final Validator<ValueType> validator) {
         Condition.INSTANCE.ensureNotNull(validator, "The validator may not be null");
-        validators.add(validator);
+
+        if (validators.add(validator) && validator instanceof DependentValidator) {
+            dependentValidatorCount++;
+        }
+
+        validatorsVersion++;
     }
 
     @Override
@@ -761,7 +2304,16 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
     @Override
     public final void removeValidator(@NonNull final Validator<ValueType> validator) {
         Condition.INSTANCE.ensureNotNull(validator, "The validator may not be null");
-        validators.remove(validator);
+
+        if (validators.remove(validator) && validator instanceof DependentValidator) {
+            dependentValidatorCount--;
+        }
+
+        if (validatorGovernor != null) {
+            validatorGovernor.remove(validator);
+        }
+
+        validatorsVersion++;
     }
 
     @Override
@@ -784,6 +2336,12 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
     @Override
     public final void removeAllValidators() {
         validators.clear();
+        dependentValidatorCount = 0;
+        validatorsVersion++;
+
+        if (validatorGovernor != null) {
+            validatorGovernor.clear();
+        }
     }
 
     /**
@@ -841,12 +2399,12 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
     public final void setErrorColor(@ColorInt final int color) {
         this.errorColor = color;
 
-        if ((Boolean) leftMessage.getTag()) {
-            leftMessage.setTextColor(color);
+        if (leftMessageState.error) {
+            leftMessageState.setColor(leftMessage, color);
         }
 
-        if ((Boolean) rightMessage.getTag()) {
-            rightMessage.setTextColor(color);
+        if (rightMessageState.error) {
+            rightMessageState.setColor(rightMessage, color);
         }
     }
 
@@ -868,12 +2426,12 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
     public final void setHelperTextColor(@ColorInt final int color) {
         this.helperTextColor = color;
 
-        if (!(Boolean) leftMessage.getTag()) {
-            leftMessage.setTextColor(color);
+        if (!leftMessageState.error && leftMessage != null) {
+            leftMessageState.setColor(leftMessage, color);
         }
 
-        if (!(Boolean) rightMessage.getTag()) {
-            rightMessage.setTextColor(color);
+        if (!rightMessageState.error && rightMessage != null) {
+            rightMessageState.setColor(rightMessage, color);
         }
     }
 
@@ -885,8 +2443,8 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
      * cleared by the widget
      */
     public final CharSequence getError() {
-        if (leftMessage.getVisibility() == View.VISIBLE && (Boolean) leftMessage.getTag()) {
-            return leftMessage.getText();
+        if (leftMessageState.visible && leftMessageState.error) {
+            return leftMessageState.text;
         }
 
         return null;
@@ -916,6 +2474,7 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
      *         null, if no icon should be displayed
      */
     public void setError(@Nullable final CharSequence error, @Nullable final Drawable icon) {
+        invalidateValidationResult();
         setLeftMessage(error, icon);
         setActivated(error != null);
     }
@@ -945,26 +2504,262 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
         }
     }
 
+    /**
+     * Returns the executor, which is used to execute asynchronous validators.
+     *
+     * @return The executor, which is used to execute asynchronous validators, as an instance of
+     * the type {@link Executor}
+     */
+    public final Executor getAsyncValidationExecutor() {
+        return asyncValidationExecutor;
+    }
+
+    /**
+     * Sets the executor, which should be used to execute asynchronous validators.
+     *
+     * @param executor
+     *         The executor, which should be set, as an instance of the type {@link Executor}. The
+     *         executor may not be null
+     */
+    public final void setAsyncValidationExecutor(@NonNull final Executor executor) {
+        Condition.INSTANCE.ensureNotNull(executor, "The executor may not be null");
+        this.asyncValidationExecutor = executor;
+    }
+
+    /**
+     * Returns, whether the results of asynchronous validators are currently pending, or not.
+     *
+     * @return True, if the results of asynchronous validators are currently pending, false
+     * otherwise
+     */
+    public final boolean isAsyncValidationPending() {
+        return asyncValidationPending;
+    }
+
     @Override
     public final boolean validate() {
-        Validator<ValueType> leftValidator = validateLeft();
-        Validator<ValueType> rightValidator = validateRight();
-        setLeftMessage(leftValidator != null ? leftValidator.getErrorMessage() : null,
-                leftValidator != null ? leftValidator.getIcon() : null);
-        setRightMessage(rightValidator != null ? rightValidator.getErrorMessage() : null);
+        return validate(false);
+    }
 
-        if (leftValidator == null && rightValidator == null) {
-            notifyOnValidationSuccess();
-            onValidate(true);
-            setActivated(false);
-            setLineColor(getAccentColor());
-            return true;
+    /**
+     * Validates the current value of the view. Synchronous validators are executed immediately.
+     * If all of them succeed, the view's {@link AsyncValidator}s are executed on a background
+     * thread and their result is applied once it becomes available. Results, which belong to an
+     * outdated value, are discarded.
+     *
+     * @param force
+     *         True, if all validators should be executed, even if neither the value, nor the
+     *         validators have been changed since the last validation, false otherwise
+     * @return True, if the current value is valid according to the synchronous validators, false
+     * otherwise
+     */
+    @Override
+    public final boolean validate(final boolean force) {
+        return validate(force, false);
+    }
+
+    /**
+     * Validates the current value of the view.
+     *
+     * @param force
+     *         True, if all validators should be executed, even if neither the value, nor the
+     *         validators have been changed since the last validation, false otherwise
+     * @param automatic
+     *         True, if the value is validated automatically, e.g. because it has been changed or
+     *         because the view lost its focus, false, if it is validated explicitly
+     * @return True, if the current value is valid according to the synchronous validators, false
+     * otherwise
+     */
+    private boolean validate(final boolean force, final boolean automatic) {
+        ValidationMetrics metrics = ValidationMetrics.getActive();
+        ValidationTracer tracer = ValidationTracing.getTracer();
+
+        if (metrics == null && tracer == null) {
+            return performValidation(force, automatic);
         }
 
-        onValidate(false);
-        setActivated(true);
-        setLineColor(getErrorColor());
-        return false;
+        long start = System.nanoTime();
+        boolean result;
+
+        if (tracer != null) {
+            tracer.beginSection(ValidationTracing.SECTION_VALIDATE);
+        }
+
+        try {
+            result = performValidation(force, automatic);
+        } finally {
+            if (tracer != null) {
+                tracer.endSection();
+            }
+        }
+
+        if (metrics != null) {
+            metrics.recordView(getMetricsName(), System.nanoTime() - start, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Validates the current value of the view, unless the result of the most recent validation
+     * can be reused. A result, which has been obtained by stopping at the first validator, which
+     * failed, is only reused, if the current validation would be stopped as well. If the result is
+     * reused by an explicit validation, the listeners are notified again.
+     *
+     * @param force
+     *         True, if all validators should be executed, even if neither the value, nor the
+     *         validators have been changed since the last validation, false otherwise
+     * @param automatic
+     *         True, if the value is validated automatically, e.g. because it has been changed or
+     *         because the view lost its focus, false, if it is validated explicitly
+     * @return True, if the current value is valid according to the synchronous validators, false
+     * otherwise
+     */
+    private boolean performValidation(final boolean force, final boolean automatic) {
+        long valueFingerprint = getValueFingerprint();
+
+        if (!force && validationResultAvailable && valueFingerprint != NO_FINGERPRINT &&
+                (dependentValidatorCount == 0 || dependencyGraphCount > 0) &&
+                valueFingerprint == lastValueFingerprint &&
+                validatorsVersion == lastValidatorsVersion &&
+                (!lastValidationFailFast || isFailFast(automatic))) {
+            if (!automatic && !asyncValidationPending) {
+                notifyOnValidated(lastFailedValidators);
+            }
+
+            return lastValidationResult;
+        }
+
+        evaluate(evaluation, automatic);
+
+        if (evaluation.partial) {
+            return applyPartialEvaluation(evaluation);
+        }
+
+        asyncValidationPending = evaluation.asyncValidators != null;
+        boolean result =
+                applyValidationResult(evaluation.leftValidator, evaluation.rightValidator);
+
+        if (asyncValidationPending) {
+            asyncValidationExecutor.execute(
+                    createAsyncValidationTask(evaluation.generation, evaluation.value,
+                            evaluation.asyncValidators, evaluation.failFast));
+        } else {
+            notifyOnValidated(evaluation.failedValidators);
+        }
+
+        rememberValidationResult(evaluation, result);
+        return result;
+    }
+
+    /**
+     * Applies the result of an evaluation, which skipped demoted validators. Only failures are
+     * shown, because a success might be contradicted by a demoted validator. In particular, an
+     * error, which has been shown by a demoted validator, is kept until the full validation has
+     * been finished. Listeners are not notified and the validity of the view is not changed.
+     *
+     * @param evaluation
+     *         The evaluation, which should be applied, as an instance of the class {@link
+     *         Evaluation}. The evaluation may not be null
+     * @return True, if the validators, which have been executed, succeeded, false otherwise
+     */
+    private boolean applyPartialEvaluation(@NonNull final Evaluation<ValueType> evaluation) {
+        boolean result = evaluation.leftValidator == null && evaluation.rightValidator == null;
+        asyncValidationPending = false;
+
+        if (!result) {
+            applyValidationResult(evaluation.leftValidator, evaluation.rightValidator);
+        }
+
+        rememberValidationResult(evaluation, result);
+        return result;
+    }
+
+    /**
+     * Validates the current value of the view, because it has been changed or because the view
+     * lost its focus. Depending on the view's validation policy, the validation may be stopped at
+     * the first validator, which fails. This method should be invoked by subclasses instead of
+     * the method {@link #validate()}, when a validation is triggered automatically.
+     *
+     * @return True, if the current value is valid according to the synchronous validators, false
+     * otherwise
+     */
+    protected final boolean validateAutomatically() {
+        return validate(false, true);
+    }
+
+    /**
+     * Validates the current value of the view, because it has been changed. If an {@link
+     * AdaptiveValidationPolicy} has been set, demoted validators are skipped and the value is
+     * validated again including them, once it has not been changed for the policy's debounce
+     * delay. Until then, listeners are not notified and successes are not shown.
+     *
+     * @return True, if the current value is valid according to the synchronous validators, which
+     * have been executed, false otherwise
+     */
+    final boolean validateChangedValue() {
+        if (validatorGovernor == null || !validatorGovernor.hasDemotedValidators()) {
+            return validateAutomatically();
+        }
+
+        removeCallbacks(debouncedValidation);
+        skipDemotedValidators = true;
+        boolean result;
+
+        try {
+            result = validate(false, true);
+        } finally {
+            skipDemotedValidators = false;
+        }
+
+        if (evaluation.partial) {
+            postDelayed(debouncedValidation, adaptiveValidationPolicy.getDebounceMillis());
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates and returns a runnable, which validates the value of the view including the demoted
+     * validators.
+     *
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}
+     */
+    @NonNull
+    private Runnable createDebouncedValidation() {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                validateAutomatically();
+            }
+
+        };
+    }
+
+    @Override
+    public final AdaptiveValidationPolicy getAdaptiveValidationPolicy() {
+        return adaptiveValidationPolicy;
+    }
+
+    @Override
+    public final void setAdaptiveValidationPolicy(
+            @Nullable final AdaptiveValidationPolicy adaptiveValidationPolicy) {
+        removeCallbacks(debouncedValidation);
+        this.adaptiveValidationPolicy = adaptiveValidationPolicy;
+        this.validatorGovernor = adaptiveValidationPolicy != null ?
+                new ValidatorGovernor<ValueType>(adaptiveValidationPolicy) : null;
+    }
+
+    @Override
+    public final ValidationPolicy getValidationPolicy() {
+        return validationPolicy;
+    }
+
+    @Override
+    public final void setValidationPolicy(@NonNull final ValidationPolicy validationPolicy) {
+        Condition.INSTANCE.ensureNotNull(validationPolicy, "The validation policy may not be null");
+        this.validationPolicy = validationPolicy;
     }
 
     @Override
@@ -1000,15 +2795,70 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
         listeners.remove(listener);
     }
 
+    @Override
+    public final void addValidationEventListener(
+            @NonNull final ValidationEventListener<ValueType> listener) {
+        Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
+        eventListeners.add(listener);
+    }
+
+    @Override
+    public final void removeValidationEventListener(
+            @NonNull final ValidationEventListener<ValueType> listener) {
+        Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
+        eventListeners.remove(listener);
+    }
+
+    @Override
+    public final boolean isValid() {
+        return valid;
+    }
+
+    @Override
+    public final void addValidityListener(@NonNull final ValidityListener<ValueType> listener) {
+        Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
+        validityListeners.add(listener);
+    }
+
+    @Override
+    public final void removeValidityListener(
+            @NonNull final ValidityListener<ValueType> listener) {
+        Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
+        validityListeners.remove(listener);
+    }
+
+    @Override
+    protected void onConfigurationChanged(final Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+        accentColorObtained = false;
+
+        if (!isActivated()) {
+            setLineColor(getAccentColor());
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        removeCallbacks(debouncedValidation);
+
+        if (asyncValidationPending) {
+            validationGeneration.incrementAndGet();
+            asyncValidationPending = false;
+            invalidateValidationResult();
+        }
+    }
+
     @Override
     protected Parcelable onSaveInstanceState() {
         Parcelable superState = super.onSaveInstanceState();
 
         if (superState != null) {
             SavedState savedState = new SavedState(superState);
-            savedState.validated = getError() != null;
+            saveValidationOutcome(savedState);
             savedState.validateOnValueChange = isValidatedOnValueChange();
             savedState.validateOnFocusLost = isValidatedOnFocusLost();
+            savedState.validationPolicy = getValidationPolicy();
             return savedState;
         }
 
@@ -1020,8 +2870,12 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
         if (state instanceof SavedState) {
             SavedState savedState = (SavedState) state;
 
+            setValidationPolicy(savedState.validationPolicy);
+
             if (savedState.validated) {
-                validate();
+                restoreValidationOutcome(savedState);
+            } else if (savedState.revalidate) {
+                validateAutomatically();
             }
 
             validateOnValueChange(savedState.validateOnValueChange);
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * Specifies, when a {@link Validateable} moves slow validators off the path of validations, which
+ * are triggered by changing its value, e.g. by typing. If a synchronous validator takes longer than
+ * the demotion threshold for a number of consecutive executions, it is demoted. Demoted validators
+ * are skipped, when the view's value is validated because it has been changed. Instead, the value
+ * is validated again after a debounce delay, once the value is not changed anymore. Until then,
+ * only failures of the executed validators are shown. Errors, which have been shown before, are
+ * kept, listeners are not notified and the validity of the view is not changed. Demoted
+ * validators are still executed, when the view loses its focus or when it is validated explicitly.
+ * If a demoted validator takes less than the promotion threshold for a number of consecutive
+ * executions, it is promoted again.
+ * <p>
+ * Instances can be created by using the class {@link Builder}.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public final class AdaptiveValidationPolicy {
+
+    /**
+     * A builder, which allows to create instances of the class {@link AdaptiveValidationPolicy}.
+     */
+    public static final class Builder {
+
+        /**
+         * The demotion threshold in nanoseconds.
+         */
+        private long demotionThresholdNanos = DEFAULT_DEMOTION_THRESHOLD_NANOS;
+
+        /**
+         * The promotion threshold in nanoseconds.
+         */
+        private long promotionThresholdNanos = DEFAULT_PROMOTION_THRESHOLD_NANOS;
+
+        /**
+         * The number of consecutive executions, which are required to demote or promote a
+         * validator.
+         */
+        private int consecutiveExecutions = DEFAULT_CONSECUTIVE_EXECUTIONS;
+
+        /**
+         * The debounce delay in milliseconds.
+         */
+        private long debounceMillis = DEFAULT_DEBOUNCE_MILLIS;
+
+        /**
+         * Sets the threshold, a validator must exceed in order to be demoted. By default, the
+         * threshold is 2 milliseconds.
+         *
+         * @param demotionThresholdNanos
+         *         The threshold, which should be set, in nanoseconds as a {@link Long} value. The
+         *         threshold must be at least 1
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}
+         */
+        @NonNull
+        public Builder setDemotionThresholdNanos(final long demotionThresholdNanos) {
+            Condition.INSTANCE.ensureAtLeast(demotionThresholdNanos, 1,
+                    "The demotion threshold must be at least 1");
+            this.demotionThresholdNanos = demotionThresholdNanos;
+            return this;
+        }
+
+        /**
+         * Sets the threshold, a demoted validator must fall below in order to be promoted again.
+         * By default, the threshold is 0.5 milliseconds.
+         *
+         * @param promotionThresholdNanos
+         *         The threshold, which should be set, in nanoseconds as a {@link Long} value. The
+         *         threshold must be at least 1
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}
+         */
+        @NonNull
+        public Builder setPromotionThresholdNanos(final long promotionThresholdNanos) {
+            Condition.INSTANCE.ensureAtLeast(promotionThresholdNanos, 1,
+                    "The promotion threshold must be at least 1");
+            this.promotionThresholdNanos = promotionThresholdNanos;
+            return this;
+        }
+
+        /**
+         * Sets the number of consecutive executions, which must exceed, respectively fall below,
+         * the thresholds in order to demote or promote a validator. By default, 3 consecutive
+         * executions are required.
+         *
+         * @param consecutiveExecutions
+         *         The number of consecutive executions, which should be set, as an {@link Integer}
+         *         value. The number must be at least 1
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}
+         */
+        @NonNull
+        public Builder setConsecutiveExecutions(final int consecutiveExecutions) {
+            Condition.INSTANCE.ensureAtLeast(consecutiveExecutions, 1,
+                    "The number of consecutive executions must be at least 1");
+            this.consecutiveExecutions = consecutiveExecutions;
+            return this;
+        }
+
+        /**
+         * Sets the delay, after which the value is validated again including the demoted
+         * validators, once it is not changed anymore. By default, the delay is 300 milliseconds.
+         *
+         * @param debounceMillis
+         *         The delay, which should be set, in milliseconds as a {@link Long} value. The
+         *         delay must be at least 0
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}
+         */
+        @NonNull
+        public Builder setDebounceMillis(final long debounceMillis) {
+            Condition.INSTANCE.ensureAtLeast(debounceMillis, 0,
+                    "The debounce delay must be at least 0");
+            this.debounceMillis = debounceMillis;
+            return this;
+        }
+
+        /**
+         * Creates and returns the policy.
+         *
+         * @return The policy, which has been created, as an instance of the class {@link
+         * AdaptiveValidationPolicy}
+         */
+        @NonNull
+        public AdaptiveValidationPolicy build() {
+            Condition.INSTANCE.ensureTrue(promotionThresholdNanos <= demotionThresholdNanos,
+                    "The promotion threshold must not be greater than the demotion threshold");
+            return new AdaptiveValidationPolicy(this);
+        }
+
+    }
+
+    /**
+     * The demotion threshold, which is used by default, in nanoseconds.
+     */
+    public static final long DEFAULT_DEMOTION_THRESHOLD_NANOS = 2000000L;
+
+    /**
+     * The promotion threshold, which is used by default, in nanoseconds.
+     */
+    public static final long DEFAULT_PROMOTION_THRESHOLD_NANOS = 500000L;
+
+    /**
+     * The number of consecutive executions, which is used by default.
+     */
+    public static final int DEFAULT_CONSECUTIVE_EXECUTIONS = 3;
+
+    /**
+     * The debounce delay, which is used by default, in milliseconds.
+     */
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 300L;
+
+    /**
+     * The demotion threshold in nanoseconds.
+     */
+    private final long demotionThresholdNanos;
+
+    /**
+     * The promotion threshold in nanoseconds.
+     */
+    private final long promotionThresholdNanos;
+
+    /**
+     * The number of consecutive executions, which are required to demote or promote a validator.
+     */
+    private final int consecutiveExecutions;
+
+    /**
+     * The debounce delay in milliseconds.
+     */
+    private final long debounceMillis;
+
+    /**
+     * Creates a new policy.
+     *
+     * @param builder
+     *         The builder, which provides the properties of the policy, as an instance of the
+     *         class {@link Builder}. The builder may not be null
+     */
+    private AdaptiveValidationPolicy(@NonNull final Builder builder) {
+        this.demotionThresholdNanos = builder.demotionThresholdNanos;
+        this.promotionThresholdNanos = builder.promotionThresholdNanos;
+        this.consecutiveExecutions = builder.consecutiveExecutions;
+        this.debounceMillis = builder.debounceMillis;
+    }
+
+    /**
+     * Returns the threshold, a validator must exceed in order to be demoted.
+     *
+     * @return The threshold in nanoseconds as a {@link Long} value
+     */
+    public long getDemotionThresholdNanos() {
+        return demotionThresholdNanos;
+    }
+
+    /**
+     * Returns the threshold, a demoted validator must fall below in order to be promoted again.
+     *
+     * @return The threshold in nanoseconds as a {@link Long} value
+     */
+    public long getPromotionThresholdNanos() {
+        return promotionThresholdNanos;
+    }
+
+    /**
+     * Returns the number of consecutive executions, which must exceed, respectively fall below,
+     * the thresholds in order to demote or promote a validator.
+     *
+     * @return The number of consecutive executions as an {@link Integer} value
+     */
+    public int getConsecutiveExecutions() {
+        return consecutiveExecutions;
+    }
+
+    /**
+     * Returns the delay, after which the value is validated again including the demoted
+     * validators, once it is not changed anymore.
+     *
+     * @return The delay in milliseconds as a {@link Long} value
+     */
+    public long getDebounceMillis() {
+        return debounceMillis;
+    }
+
+}
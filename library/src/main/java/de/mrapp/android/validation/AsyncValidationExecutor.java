@@ -0,0 +1,141 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * An executor, which allows to execute validations on a shared pool of background threads. The
+ * results of such validations can be posted back to the UI thread by using the method {@link
+ * #postToMainThread(Runnable)}.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public final class AsyncValidationExecutor implements Executor {
+
+    /**
+     * The maximum number of threads, which are used by the executor.
+     */
+    private static final int MAX_POOL_SIZE = 4;
+
+    /**
+     * The number of seconds, idle threads are kept alive.
+     */
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    /**
+     * The name prefix of the threads, which are used by the executor.
+     */
+    private static final String THREAD_NAME_PREFIX = "AsyncValidation-";
+
+    /**
+     * The single instance of the class.
+     */
+    private static volatile AsyncValidationExecutor instance;
+
+    /**
+     * The thread pool, which is used to execute validations.
+     */
+    private final ThreadPoolExecutor threadPool;
+
+    /**
+     * The handler, which is used to post results to the UI thread.
+     */
+    private final Handler mainThreadHandler;
+
+    /**
+     * Creates and returns a factory, which allows to create the background threads, which are used
+     * by the executor.
+     *
+     * @return The factory, which has been created, as an instance of the type {@link
+     * ThreadFactory}
+     */
+    private static ThreadFactory createThreadFactory() {
+        return new ThreadFactory() {
+
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(@NonNull final Runnable runnable) {
+                Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + count.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setPriority(Thread.NORM_PRIORITY - 1);
+                return thread;
+            }
+
+        };
+    }
+
+    /**
+     * Creates a new executor, which allows to execute validations on a shared pool of background
+     * threads.
+     */
+    private AsyncValidationExecutor() {
+        int availableProcessors = Runtime.getRuntime().availableProcessors();
+        int poolSize = Math.max(1, Math.min(availableProcessors - 1, MAX_POOL_SIZE));
+        threadPool = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), createThreadFactory());
+        threadPool.allowCoreThreadTimeOut(true);
+        mainThreadHandler = new Handler(Looper.getMainLooper());
+    }
+
+    /**
+     * Returns the single instance of the class.
+     *
+     * @return The single instance of the class as an instance of the class {@link
+     * AsyncValidationExecutor}
+     */
+    public static AsyncValidationExecutor getInstance() {
+        if (instance == null) {
+            synchronized (AsyncValidationExecutor.class) {
+                if (instance == null) {
+                    instance = new AsyncValidationExecutor();
+                }
+            }
+        }
+
+        return instance;
+    }
+
+    /**
+     * Posts a specific runnable to the UI thread.
+     *
+     * @param runnable
+     *         The runnable, which should be posted, as an instance of the type {@link Runnable}.
+     *         The runnable may not be null
+     */
+    public void postToMainThread(@NonNull final Runnable runnable) {
+        Condition.INSTANCE.ensureNotNull(runnable, "The runnable may not be null");
+        mainThreadHandler.post(runnable);
+    }
+
+    @Override
+    public void execute(@NonNull final Runnable runnable) {
+        Condition.INSTANCE.ensureNotNull(runnable, "The runnable may not be null");
+        threadPool.execute(runnable);
+    }
+
+}
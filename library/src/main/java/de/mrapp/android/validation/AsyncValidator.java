@@ -0,0 +1,33 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+/**
+ * Defines the interface, a validator, which is executed on a background thread, must implement.
+ * Such validators should be used for expensive validations, e.g. complex regular expressions,
+ * dictionary lookups or database queries, which would otherwise block the UI thread.
+ * <p>
+ * Asynchronous validators are only executed, if all synchronous validators of a view succeeded.
+ * The method {@link #validate(Object)} is invoked on a worker thread. It must therefore be
+ * thread-safe and it must not access any views. The value, which is passed to the method, is an
+ * immutable copy of the view's value.
+ *
+ * @param <Type>
+ *         The type of the values, which should be validated
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public interface AsyncValidator<Type> extends Validator<Type> {
+
+}
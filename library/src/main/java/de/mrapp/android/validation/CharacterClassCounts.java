@@ -0,0 +1,255 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import androidx.annotation.NonNull;
+import de.mrapp.android.validation.constraints.text.ContainsLetterConstraint;
+import de.mrapp.android.validation.constraints.text.ContainsNumberConstraint;
+import de.mrapp.android.validation.constraints.text.ContainsSymbolConstraint;
+import de.mrapp.android.validation.constraints.text.MinLengthConstraint;
+import de.mrapp.android.validation.constraints.text.RegexConstraint;
+
+/**
+ * Keeps running counts of the letters, digits, symbols and line terminators of a text, as well as
+ * its length. The counts are updated incrementally, when parts of the text are removed or
+ * inserted. This allows to check the built-in constraints {@link ContainsLetterConstraint}, {@link
+ * ContainsNumberConstraint}, {@link ContainsSymbolConstraint} and {@link MinLengthConstraint} in
+ * constant time, instead of scanning the whole text. The results are equal to those of the
+ * regular expressions, which are used by the constraints. As the regular expression "\d" may match
+ * digits other than ASCII digits, depending on the platform, the constraint {@link
+ * ContainsNumberConstraint} cannot be checked by using the counts, if the text does not contain
+ * any ASCII digits, but contains non-ASCII characters.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+final class CharacterClassCounts {
+
+    /**
+     * The result, which indicates that a constraint is satisfied.
+     */
+    static final int SATISFIED = 1;
+
+    /**
+     * The result, which indicates that a constraint is not satisfied.
+     */
+    static final int NOT_SATISFIED = 0;
+
+    /**
+     * The result, which indicates that a constraint cannot be checked by using the counts.
+     */
+    static final int UNKNOWN = -1;
+
+    /**
+     * The regular expression, which is used by the class {@link ContainsLetterConstraint}.
+     */
+    private static final String LETTER_REGEX = "(.)*([a-zA-Z])(.)*";
+
+    /**
+     * The regular expression, which is used by the class {@link ContainsNumberConstraint}.
+     */
+    private static final String NUMBER_REGEX = "(.)*(\\d)(.)*";
+
+    /**
+     * The regular expression, which is used by the class {@link ContainsSymbolConstraint}.
+     */
+    private static final String SYMBOL_REGEX = "(.)*([^a-zA-Z0-9])(.)*";
+
+    /**
+     * The number of letters.
+     */
+    private int letters;
+
+    /**
+     * The number of digits.
+     */
+    private int digits;
+
+    /**
+     * The number of symbols, including line terminators.
+     */
+    private int symbols;
+
+    /**
+     * The number of line terminators, which are not matched by the regular expression ".".
+     */
+    private int lineTerminators;
+
+    /**
+     * The number of non-ASCII characters, which are counted as symbols.
+     */
+    private int nonAsciiCharacters;
+
+    /**
+     * The length of the text.
+     */
+    private int length;
+
+    /**
+     * Returns, whether a specific character is a line terminator, which is not matched by the
+     * regular expression ".", or not.
+     *
+     * @param character
+     *         The character, which should be checked, as a {@link Character} value
+     * @return True, if the given character is a line terminator, false otherwise
+     */
+    private static boolean isLineTerminator(final char character) {
+        return character == '\n' || character == '\r' || character == '\u0085' ||
+                character == '\u2028' || character == '\u2029';
+    }
+
+    /**
+     * Returns, whether a specific regular expression constraint uses a specific regular
+     * expression, or not.
+     *
+     * @param constraint
+     *         The constraint as an instance of the class {@link RegexConstraint}. The constraint
+     *         may not be null
+     * @param regex
+     *         The regular expression as a {@link String}. The regular expression may not be null
+     * @return True, if the constraint uses the given regular expression, false otherwise
+     */
+    private static boolean usesRegex(@NonNull final RegexConstraint constraint,
+                                     @NonNull final String regex) {
+        return constraint.getRegex().flags() == 0 && regex.equals(constraint.getRegex().pattern());
+    }
+
+    /**
+     * Adds or subtracts the characters of a specific range of a text to or from the counts.
+     *
+     * @param text
+     *         The text as an instance of the type {@link CharSequence}. The text may not be null
+     * @param start
+     *         The start of the range (inclusive) as an {@link Integer} value
+     * @param end
+     *         The end of the range (exclusive) as an {@link Integer} value
+     * @param delta
+     *         1, if the characters should be added, or -1, if they should be subtracted
+     */
+    private void count(@NonNull final CharSequence text, final int start, final int end,
+                       final int delta) {
+        for (int i = start; i < end; i++) {
+            char character = text.charAt(i);
+
+            if ((character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')) {
+                letters += delta;
+            } else if (character >= '0' && character <= '9') {
+                digits += delta;
+            } else {
+                symbols += delta;
+
+                if (character > '\u007F') {
+                    nonAsciiCharacters += delta;
+                }
+
+                if (isLineTerminator(character)) {
+                    lineTerminators += delta;
+                }
+            }
+        }
+
+        length += delta * (end - start);
+    }
+
+    /**
+     * Adds the characters of a specific range of a text, which have been inserted, to the counts.
+     *
+     * @param text
+     *         The text as an instance of the type {@link CharSequence}. The text may not be null
+     * @param start
+     *         The start of the range (inclusive) as an {@link Integer} value
+     * @param end
+     *         The end of the range (exclusive) as an {@link Integer} value
+     */
+    void add(@NonNull final CharSequence text, final int start, final int end) {
+        count(text, start, end, 1);
+    }
+
+    /**
+     * Subtracts the characters of a specific range of a text, which are about to be removed, from
+     * the counts.
+     *
+     * @param text
+     *         The text as an instance of the type {@link CharSequence}. The text may not be null
+     * @param start
+     *         The start of the range (inclusive) as an {@link Integer} value
+     * @param end
+     *         The end of the range (exclusive) as an {@link Integer} value
+     */
+    void remove(@NonNull final CharSequence text, final int start, final int end) {
+        count(text, start, end, -1);
+    }
+
+    /**
+     * Resets the counts to correspond to a specific text.
+     *
+     * @param text
+     *         The text as an instance of the type {@link CharSequence}. The text may not be null
+     */
+    void reset(@NonNull final CharSequence text) {
+        letters = 0;
+        digits = 0;
+        symbols = 0;
+        lineTerminators = 0;
+        nonAsciiCharacters = 0;
+        length = 0;
+        add(text, 0, text.length());
+    }
+
+    /**
+     * Returns the length of the text.
+     *
+     * @return The length of the text as an {@link Integer} value
+     */
+    int getLength() {
+        return length;
+    }
+
+    /**
+     * Checks, whether a specific constraint is satisfied by the text, by using the counts.
+     *
+     * @param constraint
+     *         The constraint, which should be checked, as an instance of the type {@link
+     *         Constraint}. The constraint may not be null
+     * @return {@link #SATISFIED}, if the constraint is satisfied, {@link #NOT_SATISFIED}, if it is
+     * not satisfied or {@link #UNKNOWN}, if the constraint cannot be checked by using the counts
+     */
+    int isSatisfied(@NonNull final Constraint<CharSequence> constraint) {
+        Class<?> type = constraint.getClass();
+
+        if (type == MinLengthConstraint.class) {
+            return length >= ((MinLengthConstraint) constraint).getMinLength() ? SATISFIED :
+                    NOT_SATISFIED;
+        } else if (type == ContainsLetterConstraint.class &&
+                usesRegex((RegexConstraint) constraint, LETTER_REGEX)) {
+            return letters > 0 && lineTerminators == 0 ? SATISFIED : NOT_SATISFIED;
+        } else if (type == ContainsNumberConstraint.class &&
+                usesRegex((RegexConstraint) constraint, NUMBER_REGEX)) {
+            if (lineTerminators > 0) {
+                return NOT_SATISFIED;
+            } else if (digits > 0) {
+                return SATISFIED;
+            }
+
+            return nonAsciiCharacters > 0 ? UNKNOWN : NOT_SATISFIED;
+        } else if (type == ContainsSymbolConstraint.class &&
+                usesRegex((RegexConstraint) constraint, SYMBOL_REGEX)) {
+            boolean satisfied = lineTerminators == 0 ? symbols > 0 : lineTerminators == 1;
+            return satisfied ? SATISFIED : NOT_SATISFIED;
+        }
+
+        return UNKNOWN;
+    }
+
+}
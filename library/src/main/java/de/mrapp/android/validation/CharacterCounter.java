@@ -0,0 +1,270 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * Renders the messages, which show how many characters, in relation to a maximum number of
+ * characters, a text contains. The format template, which must contain two integer placeholders
+ * ({@code %d} or {@code %1$d} and {@code %2$d}), is parsed only once. The messages are rendered
+ * into a reusable buffer, which can be shown by using the method {@link
+ * android.widget.TextView#setText(char[], int, int)}. This allows to update the message on each
+ * keystroke without allocating memory. Templates, which contain other format specifiers, are
+ * formatted by using the method {@link String#format(Locale, String, Object...)} instead.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+final class CharacterCounter {
+
+    /**
+     * The maximum number of digits of an {@link Integer} value.
+     */
+    private static final int MAX_DIGITS = 10;
+
+    /**
+     * The template, which is used to format the messages.
+     */
+    private final String template;
+
+    /**
+     * The locale, which is used to format the messages.
+     */
+    private final Locale locale;
+
+    /**
+     * The maximum number of characters.
+     */
+    private final int maxLength;
+
+    /**
+     * The literal text segments of the template, which surround the placeholders, or null, if the
+     * template could not be parsed.
+     */
+    private final String[] segments;
+
+    /**
+     * The indices of the arguments, which correspond to the placeholders of the template. The
+     * index 0 corresponds to the current length and the index 1 to the maximum length.
+     */
+    private final int[] argumentIndices;
+
+    /**
+     * The character, which is used to represent the digit zero.
+     */
+    private final char zeroDigit;
+
+    /**
+     * The buffer, which is used to render the messages.
+     */
+    private char[] buffer;
+
+    /**
+     * Parses a specific template and stores its literal segments and the argument indices of its
+     * placeholders.
+     *
+     * @param template
+     *         The template, which should be parsed, as a {@link String}. The template may not be
+     *         null
+     * @param segments
+     *         The array, the literal segments should be stored in, as a {@link String} array. The
+     *         array must have a length of 3
+     * @param argumentIndices
+     *         The array, the argument indices should be stored in, as an {@link Integer} array.
+     *         The array must have a length of 2
+     * @return True, if the template has been parsed successfully, false otherwise
+     */
+    private static boolean parse(@NonNull final String template, @NonNull final String[] segments,
+                                 @NonNull final int[] argumentIndices) {
+        StringBuilder segment = new StringBuilder();
+        int placeholders = 0;
+        int i = 0;
+
+        while (i < template.length()) {
+            char character = template.charAt(i);
+
+            if (character != '%') {
+                segment.append(character);
+                i++;
+            } else if (i + 1 < template.length() && template.charAt(i + 1) == '%') {
+                segment.append('%');
+                i += 2;
+            } else {
+                int end = template.indexOf('d', i + 1);
+
+                if (end == -1 || placeholders == 2) {
+                    return false;
+                }
+
+                String specifier = template.substring(i + 1, end);
+                int argumentIndex;
+
+                if (specifier.isEmpty()) {
+                    argumentIndex = placeholders;
+                } else if (specifier.matches("[12]\\$")) {
+                    argumentIndex = specifier.charAt(0) - '1';
+                } else {
+                    return false;
+                }
+
+                segments[placeholders] = segment.toString();
+                argumentIndices[placeholders] = argumentIndex;
+                segment.setLength(0);
+                placeholders++;
+                i = end + 1;
+            }
+        }
+
+        segments[placeholders] = segment.toString();
+        return placeholders == 2;
+    }
+
+    /**
+     * Renders a specific non-negative {@link Integer} value into the buffer.
+     *
+     * @param value
+     *         The value, which should be rendered, as an {@link Integer} value
+     * @param offset
+     *         The offset, the value should be rendered at, as an {@link Integer} value
+     * @return The offset after the rendered value as an {@link Integer} value
+     */
+    private int appendNumber(final int value, final int offset) {
+        int digits = 1;
+
+        for (int remainder = value / 10; remainder > 0; remainder /= 10) {
+            digits++;
+        }
+
+        int remainder = value;
+
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = (char) (zeroDigit + remainder % 10);
+            remainder /= 10;
+        }
+
+        return offset + digits;
+    }
+
+    /**
+     * Renders a specific literal segment into the buffer.
+     *
+     * @param segment
+     *         The segment, which should be rendered, as a {@link String}. The segment may not be
+     *         null
+     * @param offset
+     *         The offset, the segment should be rendered at, as an {@link Integer} value
+     * @return The offset after the rendered segment as an {@link Integer} value
+     */
+    private int appendSegment(@NonNull final String segment, final int offset) {
+        segment.getChars(0, segment.length(), buffer, offset);
+        return offset + segment.length();
+    }
+
+    /**
+     * Creates a new object, which renders the messages, which show how many characters, in
+     * relation to a maximum number of characters, a text contains.
+     *
+     * @param template
+     *         The template, which should be used to format the messages, as a {@link String}. The
+     *         template may not be null
+     * @param locale
+     *         The locale, which should be used to format the messages, as an instance of the class
+     *         {@link Locale}. The locale may not be null
+     * @param maxLength
+     *         The maximum number of characters as an {@link Integer} value. The maximum number of
+     *         characters must be at least 1
+     */
+    CharacterCounter(@NonNull final String template, @NonNull final Locale locale,
+                     final int maxLength) {
+        Condition.INSTANCE.ensureNotNull(template, "The template may not be null");
+        Condition.INSTANCE.ensureNotNull(locale, "The locale may not be null");
+        Condition.INSTANCE.ensureAtLeast(maxLength, 1, "The maximum length must be at least 1");
+        this.template = template;
+        this.locale = locale;
+        this.maxLength = maxLength;
+        String[] parsedSegments = new String[3];
+        this.argumentIndices = new int[2];
+        this.segments = parse(template, parsedSegments, argumentIndices) ? parsedSegments : null;
+        this.zeroDigit = DecimalFormatSymbols.getInstance(locale).getZeroDigit();
+        this.buffer = new char[template.length() + 2 * MAX_DIGITS];
+    }
+
+    /**
+     * Returns the maximum number of characters.
+     *
+     * @return The maximum number of characters as an {@link Integer} value
+     */
+    int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Returns the buffer, the messages are rendered into. Its content is only valid until the next
+     * message is rendered.
+     *
+     * @return The buffer, the messages are rendered into, as a {@link Character} array
+     */
+    @NonNull
+    char[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Renders the message, which corresponds to a specific length, into the buffer, which is
+     * returned by the method {@link #getBuffer()}.
+     *
+     * @param length
+     *         The length, the message should be rendered for, as an {@link Integer} value. The
+     *         length must be at least 0
+     * @return The number of characters of the message, which has been rendered, as an {@link
+     * Integer} value
+     */
+    int render(final int length) {
+        if (segments == null) {
+            String message = String.format(locale, template, length, maxLength);
+
+            if (buffer.length < message.length()) {
+                buffer = new char[message.length()];
+            }
+
+            message.getChars(0, message.length(), buffer, 0);
+            return message.length();
+        }
+
+        int offset = appendSegment(segments[0], 0);
+        offset = appendNumber(argumentIndices[0] == 0 ? length : maxLength, offset);
+        offset = appendSegment(segments[1], offset);
+        offset = appendNumber(argumentIndices[1] == 0 ? length : maxLength, offset);
+        return appendSegment(segments[2], offset);
+    }
+
+    /**
+     * Returns the message, which corresponds to a specific length, as a new string.
+     *
+     * @param length
+     *         The length, the message should be returned for, as an {@link Integer} value. The
+     *         length must be at least 0
+     * @return The message, which corresponds to the given length, as a {@link String}
+     */
+    @NonNull
+    String getMessage(final int length) {
+        return new String(buffer, 0, render(length));
+    }
+
+}
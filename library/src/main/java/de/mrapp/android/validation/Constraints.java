@@ -13,6 +13,8 @@
  */
 package de.mrapp.android.validation;
 
+import android.content.Context;
+
 import androidx.annotation.NonNull;
 
 import java.util.regex.Pattern;
@@ -23,6 +25,7 @@ import de.mrapp.android.validation.constraints.NegateConstraint;
 import de.mrapp.android.validation.constraints.text.ContainsLetterConstraint;
 import de.mrapp.android.validation.constraints.text.ContainsNumberConstraint;
 import de.mrapp.android.validation.constraints.text.ContainsSymbolConstraint;
+import de.mrapp.android.validation.constraints.text.DictionaryConstraint;
 import de.mrapp.android.validation.constraints.text.MinLengthConstraint;
 import de.mrapp.android.validation.constraints.text.RegexConstraint;
 
@@ -149,4 +152,18 @@ public final class Constraints {
         return new ContainsSymbolConstraint();
     }
 
+    /**
+     * Creates and returns a constraint, which allows to verify passwords in order to check, if
+     * they are hard to guess. Passwords are considered to be easy to guess, if they mainly consist
+     * of common words, keyboard walks, sequences or repeats.
+     *
+     * @param context
+     *         The context, which should be used to open the word list, as an instance of the class
+     *         {@link Context}. The context may not be null
+     * @return The constraint, which has been created, as an instance of the type {@link Constraint}
+     */
+    public static Constraint<CharSequence> uncommon(@NonNull final Context context) {
+        return new DictionaryConstraint(context);
+    }
+
 }
\ No newline at end of file
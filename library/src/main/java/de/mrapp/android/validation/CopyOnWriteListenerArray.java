@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * A data structure, which allows to manage event listeners. The listeners are stored in an array,
+ * which is copied whenever a listener is added or removed. This allows to notify the listeners
+ * from any thread without locking and without allocating an iterator.
+ *
+ * @param <Type>
+ *         The type of the listeners
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+final class CopyOnWriteListenerArray<Type> {
+
+    /**
+     * An empty array, which is used, if no listeners are registered.
+     */
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+
+    /**
+     * The array, which contains the listeners. It must never be modified.
+     */
+    private volatile Object[] listeners;
+
+    /**
+     * Returns the index of a specific listener.
+     *
+     * @param array
+     *         The array, which should be searched, as an {@link Object} array. The array may not
+     *         be null
+     * @param listener
+     *         The listener, whose index should be returned, as an instance of the generic type
+     *         Type. The listener may not be null
+     * @return The index of the given listener or -1, if the array does not contain the listener
+     */
+    private static int indexOf(@NonNull final Object[] array, @NonNull final Object listener) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i].equals(listener)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Creates a new data structure, which allows to manage event listeners.
+     */
+    CopyOnWriteListenerArray() {
+        this.listeners = EMPTY_ARRAY;
+    }
+
+    /**
+     * Adds a new listener, unless it has already been added.
+     *
+     * @param listener
+     *         The listener, which should be added, as an instance of the generic type Type. The
+     *         listener may not be null
+     * @return True, if the listener has been added, false otherwise
+     */
+    synchronized boolean add(@NonNull final Type listener) {
+        Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
+        Object[] array = listeners;
+
+        if (indexOf(array, listener) == -1) {
+            Object[] newArray = new Object[array.length + 1];
+            System.arraycopy(array, 0, newArray, 0, array.length);
+            newArray[array.length] = listener;
+            listeners = newArray;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes a specific listener.
+     *
+     * @param listener
+     *         The listener, which should be removed, as an instance of the generic type Type. The
+     *         listener may not be null
+     * @return True, if the listener has been removed, false otherwise
+     */
+    synchronized boolean remove(@NonNull final Type listener) {
+        Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
+        Object[] array = listeners;
+        int index = indexOf(array, listener);
+
+        if (index != -1) {
+            if (array.length == 1) {
+                listeners = EMPTY_ARRAY;
+            } else {
+                Object[] newArray = new Object[array.length - 1];
+                System.arraycopy(array, 0, newArray, 0, index);
+                System.arraycopy(array, index + 1, newArray, index, array.length - index - 1);
+                listeners = newArray;
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns, whether no listeners are registered, or not.
+     *
+     * @return True, if no listeners are registered, false otherwise
+     */
+    boolean isEmpty() {
+        return listeners.length == 0;
+    }
+
+    /**
+     * Returns the array, which contains the listeners at the time the method is invoked. The
+     * array is not copied and therefore it must not be modified. Subsequent modifications of the
+     * data structure do not affect the returned array.
+     *
+     * @return The array, which contains the listeners, as an {@link Object} array. The array may
+     * not be null
+     */
+    @NonNull
+    Object[] getSnapshot() {
+        return listeners;
+    }
+
+}
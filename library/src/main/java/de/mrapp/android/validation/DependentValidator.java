@@ -0,0 +1,42 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import java.util.Collection;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Defines the interface, a validator, whose result does not only depend on the validated value,
+ * but also on the values of other views, must implement. By declaring these views, a {@link
+ * ValidationDependencyGraph} is able to re-validate the views, which use the validator, when the
+ * value of one of the views, they depend on, is changed.
+ *
+ * @param <Type>
+ *         The type of the values, which should be validated
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public interface DependentValidator<Type> extends Validator<Type> {
+
+    /**
+     * Returns the views, whose values are used by the validator.
+     *
+     * @return A collection, which contains the views, whose values are used by the validator, as
+     * an instance of the type {@link Collection}. The collection may not be null
+     */
+    @NonNull
+    Collection<Validateable<?>> getDependencies();
+
+}
@@ -16,6 +16,7 @@ package de.mrapp.android.validation;
 import android.annotation.TargetApi;
 import android.content.Context;
 import android.content.res.ColorStateList;
+import android.content.res.Configuration;
 import android.content.res.TypedArray;
 import android.graphics.Paint;
 import android.graphics.Rect;
@@ -62,7 +63,7 @@ import org.xmlpull.v1.XmlPullParserException;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.Locale;
 
 import androidx.annotation.NonNull;
@@ -194,6 +195,23 @@ public class EditText extends AbstractValidateableView<android.widget.EditText,
      */
     private int maxNumberOfCharacters;
 
+    /**
+     * The snapshot of the text, which is shared by all validators during a validation pass.
+     */
+    private TextSnapshot textSnapshot;
+
+    /**
+     * The object, which renders the message, which shows how many characters have already been
+     * entered, or null, if it has not been created yet.
+     */
+    private CharacterCounter characterCounter;
+
+    /**
+     * A collection, which contains the validator, which ensures, that the text does not exceed the
+     * maximum number of characters. It is returned, when the validation fails.
+     */
+    private Collection<Validator<CharSequence>> maxNumberOfCharactersViolation;
+
     /**
      * Initializes the view.
      *
@@ -481,11 +499,15 @@ public class EditText extends AbstractValidateableView<android.widget.EditText,
 
             @Override
             public final void afterTextChanged(final Editable s) {
+                onValueChangeStarted();
+
                 if (isValidatedOnValueChange()) {
-                    validate();
+                    validateChangedValue();
                 }
 
+                notifyOnValueChanged();
                 adaptMaxNumberOfCharactersMessage();
+                onValueChangeHandled();
             }
 
         };
@@ -500,11 +522,56 @@ public class EditText extends AbstractValidateableView<android.widget.EditText,
      * the type {@link CharSequence}
      */
     private CharSequence getMaxNumberOfCharactersMessage() {
+        return getCharacterCounter().getMessage(getView().length());
+    }
+
+    /**
+     * Returns the object, which renders the message, which shows how many characters, in relation
+     * to the maximum number of characters, the edit text is allowed to contain, have already been
+     * entered. The object is created, if necessary.
+     *
+     * @return The object, which renders the message, as an instance of the class {@link
+     * CharacterCounter}
+     */
+    private CharacterCounter getCharacterCounter() {
         int maxLength = getMaxNumberOfCharacters();
-        int currentLength = getView().length();
-        return String
-                .format(getResources().getString(R.string.edit_text_size_violation_error_message),
-                        currentLength, maxLength);
+
+        if (characterCounter == null || characterCounter.getMaxLength() != maxLength) {
+            characterCounter = new CharacterCounter(
+                    getResources().getString(R.string.edit_text_size_violation_error_message),
+                    Locale.getDefault(), maxLength);
+        }
+
+        return characterCounter;
+    }
+
+    /**
+     * Creates and returns a validator, which ensures, that the text does not exceed the maximum
+     * number of characters. Its error message corresponds to the message, which shows how many
+     * characters have already been entered.
+     *
+     * @return The validator, which has been created, as an instance of the type {@link Validator}
+     */
+    private Validator<CharSequence> createMaxNumberOfCharactersValidator() {
+        return new Validator<CharSequence>() {
+
+            @Override
+            public boolean validate(final CharSequence value) {
+                return getMaxNumberOfCharacters() == -1 ||
+                        value.length() <= getMaxNumberOfCharacters();
+            }
+
+            @Override
+            public CharSequence getErrorMessage() {
+                return getMaxNumberOfCharactersMessage();
+            }
+
+            @Override
+            public Drawable getIcon() {
+                return null;
+            }
+
+        };
     }
 
     /**
@@ -514,26 +581,40 @@ public class EditText extends AbstractValidateableView<android.widget.EditText,
      */
     private void adaptMaxNumberOfCharactersMessage() {
         if (getMaxNumberOfCharacters() != -1) {
-            setRightMessage(getMaxNumberOfCharactersMessage(),
-                    getView().length() > getMaxNumberOfCharacters());
+            CharacterCounter counter = getCharacterCounter();
+            int length = getView().length();
+            int messageLength = counter.render(length);
+            setRightMessage(counter.getBuffer(), messageLength,
+                    length > getMaxNumberOfCharacters());
         } else {
             setRightMessage(null);
         }
     }
 
     @Override
-    protected final Collection<Validator<CharSequence>> onGetRightErrorMessage() {
-        CharSequence errorMessage = getMaxNumberOfCharactersMessage();
+    final void setRightErrorMessage(@Nullable final Validator<CharSequence> validator) {
+        adaptMaxNumberOfCharactersMessage();
+    }
 
-        if (getMaxNumberOfCharacters() != -1) {
-            Validator<CharSequence> validator =
-                    Validators.maxLength(errorMessage, getMaxNumberOfCharacters());
+    /**
+     * @deprecated Use the method {@link #onGetRightErrorMessage(CharSequence)} instead
+     */
+    @Deprecated
+    @Override
+    protected final Collection<Validator<CharSequence>> onGetRightErrorMessage() {
+        return onGetRightErrorMessage(getValue());
+    }
 
-            if (!validator.validate(getValue())) {
-                Collection<Validator<CharSequence>> result = new LinkedList<>();
-                result.add(validator);
-                return result;
+    @Override
+    protected final Collection<Validator<CharSequence>> onGetRightErrorMessage(
+            final CharSequence value) {
+        if (getMaxNumberOfCharacters() != -1 && value.length() > getMaxNumberOfCharacters()) {
+            if (maxNumberOfCharactersViolation == null) {
+                maxNumberOfCharactersViolation =
+                        Collections.singletonList(createMaxNumberOfCharactersValidator());
             }
+
+            return maxNumberOfCharactersViolation;
         }
 
         return null;
@@ -559,6 +640,34 @@ public class EditText extends AbstractValidateableView<android.widget.EditText,
         return getView().getText();
     }
 
+    @Override
+    protected final CharSequence getValueSnapshot() {
+        if (textSnapshot == null) {
+            textSnapshot = new TextSnapshot();
+        }
+
+        textSnapshot.update(getView().getText());
+        return textSnapshot;
+    }
+
+    @Override
+    protected final CharSequence getImmutableValue(final CharSequence snapshot) {
+        return snapshot.toString();
+    }
+
+    @Override
+    protected final long getValueFingerprint() {
+        CharSequence text = getView().getText();
+        int length = text.length();
+        int hash = 0;
+
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+
+        return ((long) length << 32) | (hash & 0xFFFFFFFFL);
+    }
+
     /**
      * Creates a new view, which allows to enter text.
      *
@@ -657,6 +766,7 @@ public class EditText extends AbstractValidateableView<android.widget.EditText,
         }
 
         this.maxNumberOfCharacters = maxNumberOfCharacters;
+        invalidateValidationResult();
         adaptMaxNumberOfCharactersMessage();
     }
 
@@ -2299,6 +2409,13 @@ public class EditText extends AbstractValidateableView<android.widget.EditText,
         Selection.extendSelection(getText(), index);
     }
 
+    @Override
+    protected void onConfigurationChanged(final Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+        characterCounter = null;
+        adaptMaxNumberOfCharactersMessage();
+    }
+
     @Override
     protected final Parcelable onSaveInstanceState() {
         Parcelable superState = super.onSaveInstanceState();
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import java.util.Arrays;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Caches the validators, which fail for the items of an adapter, mapped to the items' positions.
+ * The cache must be cleared, when the adapter's data has been changed. It is cleared automatically,
+ * when the validators have been changed.
+ *
+ * @param <ItemType>
+ *         The type of the items
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+final class ItemValidityCache<ItemType> {
+
+    /**
+     * The initial capacity of the cache.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * An array, which contains the lists of failed validators, mapped to the positions of the
+     * corresponding items, or null for items, which have not been validated yet.
+     */
+    private Object[] failedValidators;
+
+    /**
+     * The version of the validators, the cached results correspond to.
+     */
+    private int validatorsVersion;
+
+    /**
+     * Creates a new cache.
+     */
+    ItemValidityCache() {
+        this.failedValidators = new Object[INITIAL_CAPACITY];
+        this.validatorsVersion = -1;
+    }
+
+    /**
+     * Returns the validators, which fail for the item at a specific position.
+     *
+     * @param position
+     *         The position of the item as an {@link Integer} value
+     * @param validatorsVersion
+     *         The current version of the validators as an {@link Integer} value
+     * @return A list, which contains the validators, which fail for the item, as an instance of
+     * the type {@link List} or null, if the item has not been validated yet
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    List<Validator<ItemType>> get(final int position, final int validatorsVersion) {
+        if (this.validatorsVersion != validatorsVersion) {
+            clear();
+            this.validatorsVersion = validatorsVersion;
+            return null;
+        }
+
+        return position < failedValidators.length ?
+                (List<Validator<ItemType>>) failedValidators[position] : null;
+    }
+
+    /**
+     * Stores the validators, which fail for the item at a specific position.
+     *
+     * @param position
+     *         The position of the item as an {@link Integer} value
+     * @param failedValidators
+     *         A list, which contains the validators, which fail for the item, as an instance of
+     *         the type {@link List}. The list may not be null
+     */
+    void put(final int position, @NonNull final List<Validator<ItemType>> failedValidators) {
+        if (position >= this.failedValidators.length) {
+            this.failedValidators = Arrays.copyOf(this.failedValidators,
+                    Math.max(position + 1, this.failedValidators.length * 2));
+        }
+
+        this.failedValidators[position] = failedValidators;
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    void clear() {
+        Arrays.fill(failedValidators, null);
+    }
+
+}
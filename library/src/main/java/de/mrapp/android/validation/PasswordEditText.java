@@ -18,10 +18,13 @@ import android.content.Context;
 import android.content.res.TypedArray;
 import android.os.Build;
 import android.text.Editable;
-import android.text.Html;
 import android.text.InputType;
+import android.text.SpannableStringBuilder;
+import android.text.Spanned;
+import android.text.SpannedString;
 import android.text.TextUtils;
 import android.text.TextWatcher;
+import android.text.style.ForegroundColorSpan;
 import android.util.AttributeSet;
 
 import java.util.ArrayList;
@@ -81,6 +84,23 @@ public class PasswordEditText extends EditText {
      */
     private int regularHelperTextColor;
 
+    /**
+     * The styled helper texts, which have already been created, mapped to the corresponding
+     * strength buckets, or null, if the cache has been invalidated.
+     */
+    private Spanned[] styledHelperTexts;
+
+    /**
+     * The strength bucket, whose helper text is currently shown, or -1, if the regular helper text
+     * is shown.
+     */
+    private int currentBucket;
+
+    /**
+     * The running counts of the character classes of the current password.
+     */
+    private CharacterClassCounts characterClassCounts;
+
     /**
      * Initializes the view.
      *
@@ -94,6 +114,10 @@ public class PasswordEditText extends EditText {
         helperTextColors = new ArrayList<>();
         regularHelperText = getHelperText();
         regularHelperTextColor = getHelperTextColor();
+        styledHelperTexts = null;
+        currentBucket = -1;
+        characterClassCounts = new CharacterClassCounts();
+        characterClassCounts.reset(getView().getText());
         obtainStyledAttributes(attributeSet);
         setInputType(InputType.TYPE_CLASS_TEXT | InputType.TYPE_TEXT_VARIATION_PASSWORD);
         getView().addTextChangedListener(createTextChangeListener());
@@ -147,17 +171,21 @@ public class PasswordEditText extends EditText {
             @Override
             public final void beforeTextChanged(final CharSequence s, final int start,
                                                 final int count, final int after) {
-
+                characterClassCounts.remove(s, start, start + count);
             }
 
             @Override
             public final void onTextChanged(final CharSequence s, final int start, final int before,
                                             final int count) {
-
+                characterClassCounts.add(s, start, start + count);
             }
 
             @Override
             public final void afterTextChanged(final Editable s) {
+                if (characterClassCounts.getLength() != s.length()) {
+                    characterClassCounts.reset(s);
+                }
+
                 verifyPasswordStrength();
             }
 
@@ -173,28 +201,65 @@ public class PasswordEditText extends EditText {
             float score = getPasswordStrength();
             adaptHelperText(score);
         } else {
-            setHelperText(regularHelperText);
+            showRegularHelperText();
         }
     }
 
+    /**
+     * Shows the regular helper text, which is shown, when the password strength is not verified.
+     */
+    private void showRegularHelperText() {
+        currentBucket = -1;
+        setHelperText(regularHelperText);
+    }
+
+    /**
+     * Invalidates the styled helper texts, which have been created for the strength buckets. This
+     * method must be invoked, when the helper texts, their colors or their prefix have been
+     * changed.
+     */
+    private void invalidateStyledHelperTexts() {
+        styledHelperTexts = null;
+        currentBucket = -1;
+    }
+
     /**
      * Returns the strength of the current password, depending on the constraints, which have been
-     * added.
+     * added. The built-in constraints, which check the length of the password or whether it
+     * contains letters, numbers or symbols, are checked by using the running counts of the
+     * password's character classes. All other constraints are checked by scanning the password.
      *
      * @return The fraction of constraints, which are satisfied, as a {@link Float} value between
      * 0.0 and 1.0
      */
     private float getPasswordStrength() {
-        int absoluteScore = 0;
-        CharSequence password = getView().getText();
+        ValidationTracer tracer = ValidationTracing.getTracer();
 
-        for (Constraint<CharSequence> constraint : constraints) {
-            if (constraint.isSatisfied(password)) {
-                absoluteScore++;
-            }
+        if (tracer != null) {
+            tracer.beginSection(ValidationTracing.SECTION_PASSWORD_STRENGTH);
         }
 
-        return ((float) absoluteScore / (float) constraints.size());
+        try {
+            int absoluteScore = 0;
+            CharSequence password = getView().getText();
+
+            for (int i = 0; i < constraints.size(); i++) {
+                Constraint<CharSequence> constraint = constraints.get(i);
+                int result = characterClassCounts.isSatisfied(constraint);
+
+                if (result == CharacterClassCounts.SATISFIED ||
+                        (result == CharacterClassCounts.UNKNOWN &&
+                                constraint.isSatisfied(password))) {
+                    absoluteScore++;
+                }
+            }
+
+            return ((float) absoluteScore / (float) constraints.size());
+        } finally {
+            if (tracer != null) {
+                tracer.endSection();
+            }
+        }
     }
 
     /**
@@ -206,68 +271,81 @@ public class PasswordEditText extends EditText {
      */
     private void adaptHelperText(final float score) {
         if (!helperTexts.isEmpty()) {
-            CharSequence helperText = getHelperText(score);
-
-            if (helperText != null) {
-                int color = getHelperTextColor(score);
-                helperText = "<font color=\"" + color + "\">" + helperText + "</font>";
-                String prefix = getPasswordVerificationPrefix();
-
-                if (prefix != null) {
-                    prefix = "<font color=\"" + regularHelperTextColor + "\">" + prefix +
-                            ": </font>";
-                } else {
-                    prefix = "";
+            int textIndex = getBucketIndex(score, helperTexts.size());
+            int colorCount = Math.max(helperTextColors.size(), 1);
+            int colorIndex = helperTextColors.isEmpty() ? 0 :
+                    getBucketIndex(score, helperTextColors.size());
+            int bucket = textIndex * colorCount + colorIndex;
+
+            if (bucket != currentBucket) {
+                if (styledHelperTexts == null) {
+                    styledHelperTexts = new Spanned[helperTexts.size() * colorCount];
+                }
+
+                Spanned styledHelperText = styledHelperTexts[bucket];
+
+                if (styledHelperText == null) {
+                    styledHelperText = createStyledHelperText(helperTexts.get(textIndex),
+                            helperTextColors.isEmpty() ? regularHelperTextColor :
+                                    helperTextColors.get(colorIndex));
+                    styledHelperTexts[bucket] = styledHelperText;
                 }
 
-                setHelperText(Html.fromHtml(prefix + helperText));
-            } else {
-                setHelperText(regularHelperText);
+                currentBucket = bucket;
+                setHelperText(styledHelperText);
             }
         } else {
-            setHelperText(regularHelperText);
+            showRegularHelperText();
         }
     }
 
     /**
-     * Returns the helper text, which corresponds to a specific password strength.
+     * Creates and returns a styled helper text, which consists of the prefix and a specific helper
+     * text, which is highlighted by using a specific color.
      *
-     * @param score
-     *         The password strength as a {@link Float} value between 0.0 and 1.0, which represents
-     *         the fraction of constraints, which are satisfied
-     * @return The helper text as an instance of the type {@link CharSequence} or null, if no helper
-     * text for the given password strength is available
-     */
-    private CharSequence getHelperText(final float score) {
-        if (!helperTexts.isEmpty()) {
-            float interval = 1.0f / helperTexts.size();
-            int index = (int) Math.floor(score / interval) - 1;
-            index = Math.max(index, 0);
-            index = Math.min(index, helperTexts.size() - 1);
-            return helperTexts.get(index);
+     * @param helperText
+     *         The helper text as an instance of the type {@link CharSequence}. The helper text may
+     *         not be null
+     * @param color
+     *         The color, which should be used to highlight the helper text, as an {@link Integer}
+     *         value
+     * @return The styled helper text, which has been created, as an instance of the type {@link
+     * Spanned}
+     */
+    private Spanned createStyledHelperText(@NonNull final CharSequence helperText,
+                                           @ColorInt final int color) {
+        SpannableStringBuilder builder = new SpannableStringBuilder();
+        String prefix = getPasswordVerificationPrefix();
+
+        if (prefix != null) {
+            builder.append(prefix).append(": ");
+            builder.setSpan(new ForegroundColorSpan(regularHelperTextColor), 0, builder.length(),
+                    Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
         }
 
-        return null;
+        int start = builder.length();
+        builder.append(helperText);
+        builder.setSpan(new ForegroundColorSpan(color), start, builder.length(),
+                Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+        return new SpannedString(builder);
     }
 
     /**
-     * Returns the color of the helper text, which corresponds to a specific password strength.
+     * Returns the index of the bucket, which corresponds to a specific password strength.
      *
      * @param score
      *         The password strength as a {@link Float} value between 0.0 and 1.0, which represents
      *         the fraction of constraints, which are satisfied
-     * @return The color of the helper text as an {@link Integer} value
-     */
-    private int getHelperTextColor(final float score) {
-        if (!helperTextColors.isEmpty()) {
-            float interval = 1.0f / helperTextColors.size();
-            int index = (int) Math.floor(score / interval) - 1;
-            index = Math.max(index, 0);
-            index = Math.min(index, helperTextColors.size() - 1);
-            return helperTextColors.get(index);
-        }
-
-        return regularHelperTextColor;
+     * @param bucketCount
+     *         The number of available buckets as an {@link Integer} value. The number of buckets
+     *         must be at least 1
+     * @return The index of the bucket as an {@link Integer} value
+     */
+    private static int getBucketIndex(final float score, final int bucketCount) {
+        float interval = 1.0f / bucketCount;
+        int index = (int) Math.floor(score / interval) - 1;
+        index = Math.max(index, 0);
+        return Math.min(index, bucketCount - 1);
     }
 
     /**
@@ -482,6 +560,7 @@ public class PasswordEditText extends EditText {
 
         if (!helperTexts.contains(helperText)) {
             helperTexts.add(helperText);
+            invalidateStyledHelperTexts();
             verifyPasswordStrength();
         }
     }
@@ -575,6 +654,7 @@ public class PasswordEditText extends EditText {
         Condition.INSTANCE.ensureNotNull(helperText, "The helper text may not be null");
         Condition.INSTANCE.ensureNotEmpty(helperText, "The helper text may not be empty");
         helperTexts.remove(helperText);
+        invalidateStyledHelperTexts();
         verifyPasswordStrength();
     }
 
@@ -656,6 +736,7 @@ public class PasswordEditText extends EditText {
      */
     public final void removeAllHelperTexts() {
         helperTexts.clear();
+        invalidateStyledHelperTexts();
     }
 
     /**
@@ -680,6 +761,7 @@ public class PasswordEditText extends EditText {
     public final void addHelperTextColor(@ColorInt final int color) {
         if (!helperTextColors.contains(color)) {
             helperTextColors.add(color);
+            invalidateStyledHelperTexts();
             verifyPasswordStrength();
         }
     }
@@ -769,6 +851,7 @@ public class PasswordEditText extends EditText {
 
         if (index != -1) {
             helperTextColors.remove(index);
+            invalidateStyledHelperTexts();
             verifyPasswordStrength();
         }
     }
@@ -852,6 +935,7 @@ public class PasswordEditText extends EditText {
      */
     public final void removeAllHelperTextColors() {
         helperTextColors.clear();
+        invalidateStyledHelperTexts();
     }
 
     /**
@@ -873,6 +957,7 @@ public class PasswordEditText extends EditText {
      */
     public final void setPasswordVerificationPrefix(@Nullable final String prefix) {
         this.passwordVerificationPrefix = prefix;
+        invalidateStyledHelperTexts();
         verifyPasswordStrength();
     }
 
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.util.Condition;
+
+/**
+ * A tracer, which records the sections of the validation pipeline into an in-memory ring buffer.
+ * Once the buffer is full, the oldest events are overwritten. The buffer is allocated up front, so
+ * recording events does not allocate any memory. It does not depend on the Android framework and
+ * can therefore be used in tests, which run on the JVM.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public class RingBufferTracer implements ValidationTracer {
+
+    /**
+     * An event, which has been recorded by a {@link RingBufferTracer}.
+     */
+    public static final class Event {
+
+        /**
+         * The name of the section, which has begun, or null, if a section has ended.
+         */
+        private final String name;
+
+        /**
+         * The time of the event in nanoseconds.
+         */
+        private final long timestampNanos;
+
+        /**
+         * The id of the thread, the event occurred on.
+         */
+        private final long threadId;
+
+        /**
+         * Creates a new event.
+         *
+         * @param name
+         *         The name of the section, which has begun, as a {@link String} or null, if a
+         *         section has ended
+         * @param timestampNanos
+         *         The time of the event in nanoseconds as a {@link Long} value
+         * @param threadId
+         *         The id of the thread, the event occurred on, as a {@link Long} value
+         */
+        private Event(@Nullable final String name, final long timestampNanos,
+                      final long threadId) {
+            this.name = name;
+            this.timestampNanos = timestampNanos;
+            this.threadId = threadId;
+        }
+
+        /**
+         * Returns, whether a section has begun, or ended.
+         *
+         * @return True, if a section has begun, false, if a section has ended
+         */
+        public boolean isBegin() {
+            return name != null;
+        }
+
+        /**
+         * Returns the name of the section, which has begun.
+         *
+         * @return The name of the section, which has begun, as a {@link String} or null, if a
+         * section has ended
+         */
+        @Nullable
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the time of the event, as returned by the method {@link System#nanoTime()}.
+         *
+         * @return The time of the event in nanoseconds as a {@link Long} value
+         */
+        public long getTimestampNanos() {
+            return timestampNanos;
+        }
+
+        /**
+         * Returns the id of the thread, the event occurred on.
+         *
+         * @return The id of the thread, the event occurred on, as a {@link Long} value
+         */
+        public long getThreadId() {
+            return threadId;
+        }
+
+        @Override
+        public String toString() {
+            return (name != null ? "begin " + name : "end") + " @" + timestampNanos + " [" +
+                    threadId + "]";
+        }
+
+    }
+
+    /**
+     * The names of the sections, which have begun, or null for events, which correspond to the end
+     * of a section.
+     */
+    private final String[] names;
+
+    /**
+     * The times of the events in nanoseconds.
+     */
+    private final long[] timestamps;
+
+    /**
+     * The ids of the threads, the events occurred on.
+     */
+    private final long[] threadIds;
+
+    /**
+     * The total number of events, which have been recorded.
+     */
+    private long count;
+
+    /**
+     * Records a single event.
+     *
+     * @param name
+     *         The name of the section, which has begun, as a {@link String} or null, if a section
+     *         has ended
+     */
+    private synchronized void record(@Nullable final String name) {
+        int index = (int) (count % names.length);
+        names[index] = name;
+        timestamps[index] = System.nanoTime();
+        threadIds[index] = Thread.currentThread().getId();
+        count++;
+    }
+
+    /**
+     * Creates a new tracer, which records the sections of the validation pipeline into an
+     * in-memory ring buffer.
+     *
+     * @param capacity
+     *         The maximum number of events, which can be stored by the buffer, as an {@link
+     *         Integer} value. The capacity must be at least 1
+     */
+    public RingBufferTracer(final int capacity) {
+        Condition.INSTANCE.ensureAtLeast(capacity, 1, "The capacity must be at least 1");
+        this.names = new String[capacity];
+        this.timestamps = new long[capacity];
+        this.threadIds = new long[capacity];
+        this.count = 0;
+    }
+
+    /**
+     * Returns the maximum number of events, which can be stored by the buffer.
+     *
+     * @return The maximum number of events, which can be stored by the buffer, as an {@link
+     * Integer} value
+     */
+    public final int getCapacity() {
+        return names.length;
+    }
+
+    /**
+     * Returns the total number of events, which have been recorded, including those, which have
+     * been overwritten.
+     *
+     * @return The total number of events, which have been recorded, as a {@link Long} value
+     */
+    public final synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the events, which are currently stored by the buffer, from the oldest to the most
+     * recent one.
+     *
+     * @return A list, which contains the events, as an instance of the type {@link List}
+     */
+    @NonNull
+    public final synchronized List<Event> getEvents() {
+        int size = (int) Math.min(count, names.length);
+        List<Event> result = new ArrayList<>(size);
+
+        for (long i = count - size; i < count; i++) {
+            int index = (int) (i % names.length);
+            result.add(new Event(names[index], timestamps[index], threadIds[index]));
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes all events from the buffer.
+     */
+    public final synchronized void clear() {
+        for (int i = 0; i < names.length; i++) {
+            names[i] = null;
+        }
+
+        count = 0;
+    }
+
+    @Override
+    public final void beginSection(@NonNull final String name) {
+        record(name);
+    }
+
+    @Override
+    public final void endSection() {
+        record(null);
+    }
+
+}
@@ -17,6 +17,7 @@ import android.annotation.TargetApi;
 import android.content.Context;
 import android.content.res.ColorStateList;
 import android.content.res.TypedArray;
+import android.database.DataSetObserver;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
 import android.os.Parcel;
@@ -39,7 +40,14 @@ import android.widget.ArrayAdapter;
 import android.widget.FrameLayout;
 import android.widget.SpinnerAdapter;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import de.mrapp.android.validation.adapter.PagedDataSource;
+import de.mrapp.android.validation.adapter.PagedSpinnerAdapter;
 import de.mrapp.android.validation.adapter.ProxySpinnerAdapter;
+import de.mrapp.util.Condition;
 
 /**
  * A view, which allows to choose a value from a drop down menu. The value may be validated
@@ -149,6 +157,25 @@ public class Spinner extends AbstractValidateableView<android.widget.Spinner, Ob
      */
     OnItemSelectedListener itemSelectedListener;
 
+    /**
+     * The cache, which contains the validators, which fail for the adapter's items, or null, if
+     * the validity of the items should not be precomputed.
+     */
+    private ItemValidityCache<Object> itemValidityCache;
+
+    /**
+     * The observer, which discards the result of the most recent validation and the cache, which
+     * contains the validators, which fail for the adapter's items, when the adapter's data has
+     * been changed.
+     */
+    private DataSetObserver dataSetObserver;
+
+    /**
+     * The version of the positions of the items, which are provided by the data source, the
+     * cache, which contains the validators, which fail for the adapter's items, corresponds to.
+     */
+    private int itemPositionsVersion;
+
     /**
      * Initializes the view.
      *
@@ -157,6 +184,7 @@ public class Spinner extends AbstractValidateableView<android.widget.Spinner, Ob
      *         {@link AttributeSet} or null, if no attributes should be obtained
      */
     private void initialize(@Nullable final AttributeSet attributeSet) {
+        dataSetObserver = createDataSetObserver();
         obtainStyledAttributes(attributeSet);
         getView().setOnItemSelectedListener(createItemSelectedListener());
     }
@@ -207,7 +235,12 @@ public class Spinner extends AbstractValidateableView<android.widget.Spinner, Ob
         if (colors == null) {
             TypedArray styledAttributes = getContext().getTheme()
                     .obtainStyledAttributes(new int[]{android.R.attr.textColorSecondary});
-            colors = ColorStateList.valueOf(styledAttributes.getColor(0, 0));
+
+            try {
+                colors = ColorStateList.valueOf(styledAttributes.getColor(0, 0));
+            } finally {
+                styledAttributes.recycle();
+            }
         }
 
         setHintTextColor(colors);
@@ -279,13 +312,19 @@ public class Spinner extends AbstractValidateableView<android.widget.Spinner, Ob
             @Override
             public void onItemSelected(final AdapterView<?> parent, final View view,
                                        final int position, final long id) {
+                onValueChangeStarted();
+                pinItem(position);
+
                 if (getOnItemSelectedListener() != null) {
                     getOnItemSelectedListener().onItemSelected(parent, view, position, id);
                 }
 
                 if (isValidatedOnValueChange() && position != 0) {
-                    validate();
+                    validateChangedValue();
                 }
+
+                notifyOnValueChanged();
+                onValueChangeHandled();
             }
 
             @Override
@@ -298,6 +337,214 @@ public class Spinner extends AbstractValidateableView<android.widget.Spinner, Ob
         };
     }
 
+    /**
+     * Returns the adapter, which has been created for the data source, which has been set by using
+     * the method {@link #setDataSource(PagedDataSource)}.
+     *
+     * @return The adapter, which has been created for the data source, as an instance of the class
+     * {@link PagedSpinnerAdapter} or null, if no data source has been set
+     */
+    @Nullable
+    private PagedSpinnerAdapter<?> getPagedAdapter() {
+        SpinnerAdapter adapter = getAdapter();
+
+        if (adapter instanceof ProxySpinnerAdapter) {
+            SpinnerAdapter wrappedAdapter = ((ProxySpinnerAdapter) adapter).getAdapter();
+
+            if (wrappedAdapter instanceof PagedSpinnerAdapter) {
+                return (PagedSpinnerAdapter<?>) wrappedAdapter;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates and returns an observer, which discards the result of the most recent validation and
+     * the cache, which contains the validators, which fail for the adapter's items, when the
+     * adapter's data has been changed. As the fingerprint of the view's value is the position of
+     * the selected item, the result cannot be reused, once the item at this position may have
+     * been changed.
+     *
+     * @return The observer, which has been created, as an instance of the class {@link
+     * DataSetObserver}
+     */
+    private DataSetObserver createDataSetObserver() {
+        return new DataSetObserver() {
+
+            @Override
+            public void onChanged() {
+                onItemsChanged();
+            }
+
+            @Override
+            public void onInvalidated() {
+                onItemsChanged();
+            }
+
+        };
+    }
+
+    /**
+     * The method, which is invoked, when the adapter's data has been changed. If a data source has
+     * been set, the validity of the items is only discarded, if their positions have been
+     * changed, but not if a page has been loaded.
+     */
+    private void onItemsChanged() {
+        invalidateValidationResult();
+        PagedSpinnerAdapter<?> pagedAdapter = getPagedAdapter();
+
+        if (pagedAdapter == null) {
+            if (itemValidityCache != null) {
+                itemValidityCache.clear();
+            }
+        } else if (pagedAdapter.getPositionsVersion() != itemPositionsVersion) {
+            itemPositionsVersion = pagedAdapter.getPositionsVersion();
+
+            if (itemValidityCache != null) {
+                itemValidityCache.clear();
+            }
+
+            int position = pagedAdapter.getPinnedPosition() + 1;
+
+            if (position != getSelectedItemPosition()) {
+                setSelection(position);
+            }
+        }
+    }
+
+    /**
+     * Pins the item at a specific position, if a data source has been set, in order to keep the
+     * selected item available and to be able to restore its position, when the query is changed.
+     *
+     * @param position
+     *         The position of the item, which should be pinned, as an {@link Integer} value. The
+     *         position 0 corresponds to the hint
+     */
+    private void pinItem(final int position) {
+        PagedSpinnerAdapter<?> pagedAdapter = getPagedAdapter();
+
+        if (pagedAdapter != null) {
+            pagedAdapter.pinItem(position - 1);
+        }
+    }
+
+    /**
+     * Creates and returns a filter, which disables the adapter's items, whose values are not
+     * valid.
+     *
+     * @return The filter, which has been created, as an instance of the type {@link
+     * ProxySpinnerAdapter.ItemFilter}
+     */
+    private ProxySpinnerAdapter.ItemFilter createItemFilter() {
+        return new ProxySpinnerAdapter.ItemFilter() {
+
+            @Override
+            public boolean isEnabled(final int position) {
+                return isItemValid(position + 1);
+            }
+
+        };
+    }
+
+    /**
+     * Registers the filter, which disables invalid items, at the current adapter.
+     */
+    private void attachItemValidityCache() {
+        ProxySpinnerAdapter proxyAdapter = (ProxySpinnerAdapter) getAdapter();
+
+        if (proxyAdapter != null) {
+            proxyAdapter.setItemFilter(createItemFilter());
+        }
+    }
+
+    /**
+     * Unregisters the filter, which disables invalid items, from the current adapter.
+     */
+    private void detachItemValidityCache() {
+        ProxySpinnerAdapter proxyAdapter = (ProxySpinnerAdapter) getAdapter();
+
+        if (proxyAdapter != null) {
+            proxyAdapter.setItemFilter(null);
+        }
+    }
+
+    /**
+     * Executes the synchronous validators of the view for a specific item.
+     *
+     * @param item
+     *         The item, which should be validated, as an instance of the class {@link Object} or
+     *         null
+     * @return A list, which contains the validators, which failed, as an instance of the type
+     * {@link List} or null, if the result cannot be cached, because a validator depends on other
+     * views
+     */
+    @Nullable
+    private List<Validator<Object>> validateItem(@Nullable final Object item) {
+        List<Validator<Object>> result = null;
+
+        for (Validator<Object> validator : getValidators()) {
+            if (validator instanceof DependentValidator) {
+                return null;
+            } else if (!(validator instanceof AsyncValidator) &&
+                    !executeValidator(validator, item)) {
+                if (result == null) {
+                    result = new ArrayList<>();
+                }
+
+                result.add(validator);
+            }
+        }
+
+        return result != null ? result : Collections.<Validator<Object>>emptyList();
+    }
+
+    /**
+     * Returns the validators, which fail for the item at a specific position. The validators are
+     * executed only once per item, as long as neither the adapter's data, nor the validators are
+     * changed.
+     *
+     * @param position
+     *         The position of the item as an {@link Integer} value
+     * @return A list, which contains the validators, which fail for the item, as an instance of
+     * the type {@link List} or null, if the validity of the items is not precomputed or if the
+     * item is not available
+     */
+    @Nullable
+    private List<Validator<Object>> getFailedValidators(final int position) {
+        if (itemValidityCache == null || position < 0 || position >= getCount()) {
+            return null;
+        }
+
+        List<Validator<Object>> result = itemValidityCache.get(position, getValidatorsVersion());
+
+        if (result == null) {
+            Object item = getItemAtPosition(position);
+
+            if (item == null && position > 0) {
+                return null;
+            }
+
+            result = validateItem(item);
+
+            if (result != null) {
+                itemValidityCache.put(position, result);
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    final List<Validator<Object>> getKnownFailedValidators(final Object value) {
+        if (itemValidityCache == null) {
+            return null;
+        }
+
+        int position = getSelectedItemPosition();
+        return getItemAtPosition(position) == value ? getFailedValidators(position) : null;
+    }
+
     @Override
     protected final android.widget.Spinner createView() {
         return new android.widget.Spinner(getContext());
@@ -316,6 +563,11 @@ public class Spinner extends AbstractValidateableView<android.widget.Spinner, Ob
         return getView().getSelectedItem();
     }
 
+    @Override
+    protected final long getValueFingerprint() {
+        return getView().getSelectedItemPosition();
+    }
+
     /**
      * Creates a new view, which allows to choose a value from a drop down menu.
      *
@@ -610,9 +862,29 @@ public class Spinner extends AbstractValidateableView<android.widget.Spinner, Ob
      * @see AbsSpinner#setAdapter(SpinnerAdapter)
      */
     public final void setAdapter(final SpinnerAdapter adapter) {
-        getView().setAdapter(
+        invalidateValidationResult();
+        SpinnerAdapter previousAdapter = getAdapter();
+
+        if (previousAdapter != null) {
+            previousAdapter.unregisterDataSetObserver(dataSetObserver);
+        }
+
+        if (itemValidityCache != null) {
+            detachItemValidityCache();
+            itemValidityCache.clear();
+        }
+
+        ProxySpinnerAdapter proxyAdapter =
                 new ProxySpinnerAdapter(getContext(), adapter, R.layout.spinner_hint_item,
-                        getHint(), getHintTextColors()));
+                        getHint(), getHintTextColors());
+        proxyAdapter.registerDataSetObserver(dataSetObserver);
+        getView().setAdapter(proxyAdapter);
+        PagedSpinnerAdapter<?> pagedAdapter = getPagedAdapter();
+        itemPositionsVersion = pagedAdapter != null ? pagedAdapter.getPositionsVersion() : 0;
+
+        if (itemValidityCache != null) {
+            attachItemValidityCache();
+        }
     }
 
     /**
@@ -624,6 +896,106 @@ public class Spinner extends AbstractValidateableView<android.widget.Spinner, Ob
         return getView().getAdapter();
     }
 
+    /**
+     * Returns, whether the validity of the adapter's items is precomputed, or not.
+     *
+     * @return True, if the validity of the adapter's items is precomputed, false otherwise
+     */
+    public final boolean isItemValidityPrecomputed() {
+        return itemValidityCache != null;
+    }
+
+    /**
+     * Sets, whether the validity of the adapter's items should be precomputed, or not. If
+     * enabled, the synchronous validators are executed only once per item and the results are
+     * cached, until the adapter's data or the validators are changed. Validating a selection
+     * becomes a lookup and items, which are not valid, are disabled in the drop down list. This
+     * should only be enabled, if the validity is a property of the items. Validators of the type
+     * {@link DependentValidator} prevent the results from being cached.
+     *
+     * @param precomputed
+     *         True, if the validity of the adapter's items should be precomputed, false otherwise
+     */
+    public final void precomputeItemValidity(final boolean precomputed) {
+        if (precomputed != isItemValidityPrecomputed()) {
+            invalidateValidationResult();
+
+            if (precomputed) {
+                itemValidityCache = new ItemValidityCache<>();
+                attachItemValidityCache();
+            } else {
+                detachItemValidityCache();
+                itemValidityCache = null;
+            }
+        }
+    }
+
+    /**
+     * Returns, whether the item at a specific position is valid, or not. The validity is only
+     * known, if it is precomputed (see {@link #precomputeItemValidity(boolean)}).
+     *
+     * @param position
+     *         The position of the item as an {@link Integer} value. The position 0 corresponds to
+     *         the hint
+     * @return True, if the item is valid or if its validity is not known, false otherwise
+     */
+    public final boolean isItemValid(final int position) {
+        List<Validator<Object>> failedValidators = getFailedValidators(position);
+        return failedValidators == null || failedValidators.isEmpty();
+    }
+
+    /**
+     * Sets a data source, which provides the items, which should be displayed by the view, page by
+     * page. This allows to display very large sets of items, which can be filtered by using the
+     * method {@link #setQuery(CharSequence)}.
+     *
+     * @param dataSource
+     *         The data source, which should be set, as an instance of the type {@link
+     *         PagedDataSource}. The data source may not be null
+     * @param <ItemType>
+     *         The type of the items, which are provided by the data source
+     */
+    public final <ItemType> void setDataSource(
+            @NonNull final PagedDataSource<ItemType> dataSource) {
+        Condition.INSTANCE.ensureNotNull(dataSource, "The data source may not be null");
+        PagedSpinnerAdapter<ItemType> adapter = new PagedSpinnerAdapter<>(getContext(), dataSource);
+        setAdapter(adapter);
+    }
+
+    /**
+     * Returns the query, which is used to filter the items, which are provided by the data source,
+     * which has been set by using the method {@link #setDataSource(PagedDataSource)}.
+     *
+     * @return The query, which is used to filter the items, as a {@link String}. If the items are
+     * not filtered, or if no data source has been set, an empty string is returned
+     */
+    @NonNull
+    public final String getQuery() {
+        PagedSpinnerAdapter<?> adapter = getPagedAdapter();
+        return adapter != null ? adapter.getQuery() : "";
+    }
+
+    /**
+     * Sets the query, which should be used to filter the items, which are provided by the data
+     * source, which has been set by using the method {@link #setDataSource(PagedDataSource)}. Only
+     * items, whose texts start with the query, regardless of their case, are shown. The selected
+     * item remains selected, if it matches the query. Otherwise, the hint is selected.
+     *
+     * @param query
+     *         The query, which should be set, as an instance of the type {@link CharSequence} or
+     *         null, if the items should not be filtered
+     */
+    public final void setQuery(@Nullable final CharSequence query) {
+        PagedSpinnerAdapter<?> adapter = getPagedAdapter();
+
+        if (adapter == null) {
+            throw new IllegalStateException("No data source has been set");
+        }
+
+        invalidateValidationResult();
+        adapter.setQuery(query);
+    }
+
     /**
      * Sets the prompt to display when the dialog is shown.
      *
@@ -655,6 +1027,7 @@ public class Spinner extends AbstractValidateableView<android.widget.Spinner, Ob
      * Jump directly to a specific item in the adapter data.
      */
     public final void setSelection(final int position, final boolean animate) {
+        pinItem(position);
         getView().setSelection(position, animate);
     }
 
@@ -819,6 +1192,7 @@ public class Spinner extends AbstractValidateableView<android.widget.Spinner, Ob
      *         Index (starting at 0) of the data item to be selected.
      */
     public final void setSelection(final int position) {
+        pinItem(position);
         getView().setSelection(position);
     }
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Trace;
+
+import androidx.annotation.NonNull;
+
+/**
+ * A tracer, which writes the sections of the validation pipeline to the system trace by using the
+ * class {@link Trace}. This makes them visible in tools like systrace or Perfetto. On devices,
+ * which run an API level below {@link Build.VERSION_CODES#JELLY_BEAN_MR2}, sections are ignored.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public class SystemTraceTracer implements ValidationTracer {
+
+    /**
+     * The maximum length of a section name, which is supported by the class {@link Trace}.
+     */
+    private static final int MAX_SECTION_NAME_LENGTH = 127;
+
+    /**
+     * True, if the class {@link Trace} is available, false otherwise.
+     */
+    private final boolean available =
+            Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2;
+
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+    @Override
+    public final void beginSection(@NonNull final String name) {
+        if (available) {
+            Trace.beginSection(name.length() > MAX_SECTION_NAME_LENGTH ?
+                    name.substring(name.length() - MAX_SECTION_NAME_LENGTH) : name);
+        }
+    }
+
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+    @Override
+    public final void endSection() {
+        if (available) {
+            Trace.endSection();
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * A span-free snapshot of a text, which is shared by all validators during a single validation
+ * pass. The characters of the text are copied into a reusable buffer, which is only enlarged, if
+ * necessary. A {@link String} is only created, when the method {@link #toString()} is invoked.
+ * <p>
+ * A snapshot is only valid during the validation pass it has been created for. Validators must
+ * therefore not keep references to it. If the text is needed afterwards, the method {@link
+ * #toString()} should be used to obtain an immutable copy.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public final class TextSnapshot implements CharSequence {
+
+    /**
+     * The initial capacity of the buffer, which contains the characters of the text.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The buffer, which contains the characters of the text.
+     */
+    private char[] buffer;
+
+    /**
+     * The length of the text.
+     */
+    private int length;
+
+    /**
+     * The string, which corresponds to the text, or null, if it has not been created yet.
+     */
+    private String string;
+
+    /**
+     * Ensures, that a specific index is a valid index of the text.
+     *
+     * @param index
+     *         The index, which should be checked, as an {@link Integer} value
+     * @param maxIndex
+     *         The maximum valid index as an {@link Integer} value
+     */
+    private void ensureValidIndex(final int index, final int maxIndex) {
+        if (index < 0 || index > maxIndex) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid index: " + index + ", length: " + length);
+        }
+    }
+
+    /**
+     * Creates a new, empty snapshot of a text.
+     */
+    TextSnapshot() {
+        this.buffer = new char[INITIAL_CAPACITY];
+        this.length = 0;
+        this.string = null;
+    }
+
+    /**
+     * Updates the snapshot to contain the characters of a specific text.
+     *
+     * @param text
+     *         The text, whose characters should be copied, as an instance of the type {@link
+     *         CharSequence}. The text may not be null
+     */
+    void update(@NonNull final CharSequence text) {
+        Condition.INSTANCE.ensureNotNull(text, "The text may not be null");
+        int newLength = text.length();
+
+        if (newLength > buffer.length) {
+            buffer = new char[Math.max(newLength, buffer.length * 2)];
+        }
+
+        TextUtils.getChars(text, 0, newLength, buffer, 0);
+        length = newLength;
+        string = null;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        ensureValidIndex(index, length - 1);
+        return buffer[index];
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        ensureValidIndex(start, length);
+        ensureValidIndex(end, length);
+
+        if (start > end) {
+            throw new IndexOutOfBoundsException("Invalid range: " + start + " - " + end);
+        }
+
+        return new String(buffer, start, end - start);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        if (string == null) {
+            string = new String(buffer, 0, length);
+        }
+
+        return string;
+    }
+
+}
@@ -14,6 +14,7 @@
 package de.mrapp.android.validation;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import java.util.Collection;
 
@@ -104,12 +105,63 @@ public interface Validateable<Type> {
     void removeAllValidators();
 
     /**
-     * Validates the current value of the view.
+     * Validates the current value of the view. If neither the value, nor the validators have been
+     * changed since the last validation, the previous result is reused.
      *
      * @return True, if the current value is valid, false otherwise
      */
     boolean validate();
 
+    /**
+     * Validates the current value of the view.
+     *
+     * @param force
+     *         True, if all validators should be executed, even if neither the value, nor the
+     *         validators have been changed since the last validation, false otherwise
+     * @return True, if the current value is valid, false otherwise
+     */
+    boolean validate(boolean force);
+
+    /**
+     * Returns the policy, which specifies whether the validation should be stopped at the first
+     * validator, which fails, or whether all validators should be executed.
+     *
+     * @return The policy, which specifies whether the validation should be stopped at the first
+     * validator, which fails, or not, as a value of the enum {@link ValidationPolicy}
+     */
+    ValidationPolicy getValidationPolicy();
+
+    /**
+     * Sets the policy, which specifies whether the validation should be stopped at the first
+     * validator, which fails, or whether all validators should be executed.
+     *
+     * @param validationPolicy
+     *         The policy, which should be set, as a value of the enum {@link ValidationPolicy}. The
+     *         policy may not be null
+     */
+    void setValidationPolicy(@NonNull ValidationPolicy validationPolicy);
+
+    /**
+     * Returns the policy, which specifies when slow validators are moved off the path of
+     * validations, which are triggered by changing the value of the view.
+     *
+     * @return The policy, which specifies when slow validators are moved off the path of
+     * validations, which are triggered by changing the value of the view, as an instance of the
+     * class {@link AdaptiveValidationPolicy} or null, if validators are never moved
+     */
+    AdaptiveValidationPolicy getAdaptiveValidationPolicy();
+
+    /**
+     * Sets the policy, which specifies when slow validators are moved off the path of
+     * validations, which are triggered by changing the value of the view. Setting a new policy
+     * discards the latencies, which have been recorded so far.
+     *
+     * @param adaptiveValidationPolicy
+     *         The policy, which should be set, as an instance of the class {@link
+     *         AdaptiveValidationPolicy} or null, if validators should never be moved
+     */
+    void setAdaptiveValidationPolicy(@Nullable AdaptiveValidationPolicy adaptiveValidationPolicy);
+
     /**
      * Returns, whether the value of the view is automatically validated, when its value has been
      * changed, or not.
@@ -167,4 +219,53 @@ public interface Validateable<Type> {
      */
     void removeValidationListener(@NonNull ValidationListener<Type> listener);
 
+    /**
+     * Adds a new listener, which should be notified once per validation pass of the view.
+     *
+     * @param listener
+     *         The listener, which should be added, as an instance of the type {@link
+     *         ValidationEventListener}. The listener may not be null
+     */
+    void addValidationEventListener(@NonNull ValidationEventListener<Type> listener);
+
+    /**
+     * Removes a specific listener, which should not be notified once per validation pass of the
+     * view, anymore.
+     *
+     * @param listener
+     *         The listener, which should be removed, as an instance of the type {@link
+     *         ValidationEventListener}. The listener may not be null
+     */
+    void removeValidationEventListener(@NonNull ValidationEventListener<Type> listener);
+
+    /**
+     * Returns, whether the value of the view has been valid according to the most recent
+     * validation, or not. The validity is cached and therefore the view is not validated by this
+     * method. If the view has not been validated yet, false is returned.
+     *
+     * @return True, if the value of the view has been valid according to the most recent
+     * validation, false otherwise
+     */
+    boolean isValid();
+
+    /**
+     * Adds a new listener, which should be notified, when the validity of the view has been
+     * changed.
+     *
+     * @param listener
+     *         The listener, which should be added, as an instance of the type {@link
+     *         ValidityListener}. The listener may not be null
+     */
+    void addValidityListener(@NonNull ValidityListener<Type> listener);
+
+    /**
+     * Removes a specific listener, which should not be notified, when the validity of the view has
+     * been changed, anymore.
+     *
+     * @param listener
+     *         The listener, which should be removed, as an instance of the type {@link
+     *         ValidityListener}. The listener may not be null
+     */
+    void removeValidityListener(@NonNull ValidityListener<Type> listener);
+
 }
\ No newline at end of file
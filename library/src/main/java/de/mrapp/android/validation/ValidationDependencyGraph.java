@@ -0,0 +1,433 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * A graph, which keeps track of the dependencies between the views of a form, which are caused by
+ * validators of the type {@link DependentValidator}. When the value of a view is changed, only the
+ * views, which depend on it, either directly or transitively, are re-validated in topological
+ * order. Views, which are not affected by the change, are not validated again. Views, which have
+ * not been validated yet, are not validated by the graph, but their results are invalidated.
+ * <p>
+ * Changes of the validators of views, which are derived from the class {@link
+ * AbstractValidateableView}, are detected automatically. If the dependencies of a validator are
+ * changed after it has been added to a view, the method {@link #invalidate()} must be invoked.
+ * <p>
+ * The methods of this class must only be invoked on the UI thread.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public class ValidationDependencyGraph {
+
+    /**
+     * A node of the graph, which corresponds to a single view.
+     */
+    private static final class Node {
+
+        /**
+         * The view, the node corresponds to.
+         */
+        private final Validateable<?> view;
+
+        /**
+         * A list, which contains the nodes, which depend on the node.
+         */
+        private final List<Node> dependents;
+
+        /**
+         * The number of nodes, the node depends on, which have not been visited yet while
+         * computing the topological order.
+         */
+        private int inDegree;
+
+        /**
+         * True, if the node is affected by the current change, false otherwise.
+         */
+        private boolean affected;
+
+        /**
+         * Creates a new node of the graph.
+         *
+         * @param view
+         *         The view, the node corresponds to, as an instance of the type {@link
+         *         Validateable}. The view may not be null
+         */
+        Node(@NonNull final Validateable<?> view) {
+            this.view = view;
+            this.dependents = new ArrayList<>();
+            this.inDegree = 0;
+            this.affected = false;
+        }
+
+    }
+
+    /**
+     * A list, which contains the views, which have been added to the graph.
+     */
+    private final List<Validateable<?>> views;
+
+    /**
+     * The versions of the validators of the views, which have been added to the graph, at the
+     * time the graph has been built.
+     */
+    private int[] validatorsVersions;
+
+    /**
+     * A map, which contains the nodes of the graph, mapped to the corresponding views.
+     */
+    private final Map<Validateable<?>, Node> nodes;
+
+    /**
+     * A list, which contains the nodes of the graph in topological order.
+     */
+    private final List<Node> topologicalOrder;
+
+    /**
+     * A list, which is used as a stack while determining the nodes, which are affected by a
+     * change.
+     */
+    private final List<Node> stack;
+
+    /**
+     * A list, which contains the views, which are currently observed.
+     */
+    private final List<AbstractValidateableView<?, ?>> observedViews;
+
+    /**
+     * The observer, which is notified, when the value of an observed view has been changed.
+     */
+    private final AbstractValidateableView.ValueObserver valueObserver;
+
+    /**
+     * Creates and returns an observer, which is notified, when the value of an observed view has
+     * been changed.
+     *
+     * @return The observer, which has been created, as an instance of the type {@link
+     * AbstractValidateableView.ValueObserver}
+     */
+    private AbstractValidateableView.ValueObserver createValueObserver() {
+        return new AbstractValidateableView.ValueObserver() {
+
+            @Override
+            public void onValueChanged(@NonNull final AbstractValidateableView<?, ?> view) {
+                revalidateDependents(view);
+            }
+
+        };
+    }
+
+    /**
+     * Returns, whether the graph must be built again, because the validators of one of the views
+     * have been changed, or not.
+     *
+     * @return True, if the graph must be built again, false otherwise
+     */
+    private boolean isOutdated() {
+        for (int i = 0; i < views.size(); i++) {
+            Validateable<?> view = views.get(i);
+
+            if (view instanceof AbstractValidateableView && validatorsVersions[i] !=
+                    ((AbstractValidateableView<?, ?>) view).getValidatorsVersion()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the node, which corresponds to a specific view. If no such node exists yet, it is
+     * created.
+     *
+     * @param view
+     *         The view, whose node should be returned, as an instance of the type {@link
+     *         Validateable}. The view may not be null
+     * @return The node, which corresponds to the given view, as an instance of the class {@link
+     * Node}
+     */
+    private Node getOrCreateNode(@NonNull final Validateable<?> view) {
+        Node node = nodes.get(view);
+
+        if (node == null) {
+            node = new Node(view);
+            nodes.put(view, node);
+        }
+
+        return node;
+    }
+
+    /**
+     * Builds the graph, depending on the validators of the views, which have been added to it.
+     */
+    private void build() {
+        nodes.clear();
+        validatorsVersions = new int[views.size()];
+
+        for (int i = 0; i < views.size(); i++) {
+            Validateable<?> view = views.get(i);
+            Node node = getOrCreateNode(view);
+
+            if (view instanceof AbstractValidateableView) {
+                validatorsVersions[i] =
+                        ((AbstractValidateableView<?, ?>) view).getValidatorsVersion();
+            }
+
+            for (Validator<?> validator : view.getValidators()) {
+                if (validator instanceof DependentValidator) {
+                    for (Validateable<?> dependency : ((DependentValidator<?>) validator)
+                            .getDependencies()) {
+                        Node dependencyNode = getOrCreateNode(dependency);
+
+                        if (dependency != view && !dependencyNode.dependents.contains(node)) {
+                            dependencyNode.dependents.add(node);
+                            node.inDegree++;
+                        }
+                    }
+                }
+            }
+        }
+
+        sortTopologically();
+        updateObservedViews();
+    }
+
+    /**
+     * Sorts the nodes of the graph topologically. Nodes, which are part of a cycle, are appended
+     * in the order they have been added.
+     */
+    private void sortTopologically() {
+        topologicalOrder.clear();
+
+        for (Node node : nodes.values()) {
+            if (node.inDegree == 0) {
+                topologicalOrder.add(node);
+            }
+        }
+
+        for (int i = 0; i < topologicalOrder.size(); i++) {
+            for (Node dependent : topologicalOrder.get(i).dependents) {
+                if (--dependent.inDegree == 0) {
+                    topologicalOrder.add(dependent);
+                }
+            }
+        }
+
+        if (topologicalOrder.size() < nodes.size()) {
+            for (Node node : nodes.values()) {
+                if (node.inDegree > 0) {
+                    node.inDegree = 0;
+                    topologicalOrder.add(node);
+                }
+            }
+        }
+    }
+
+    /**
+     * Registers the observer at all views, other views depend on, and unregisters it from all
+     * other views.
+     */
+    private void updateObservedViews() {
+        for (AbstractValidateableView<?, ?> view : observedViews) {
+            view.removeValueObserver(valueObserver);
+        }
+
+        observedViews.clear();
+
+        for (Node node : topologicalOrder) {
+            if (!node.dependents.isEmpty() && node.view instanceof AbstractValidateableView) {
+                AbstractValidateableView<?, ?> view = (AbstractValidateableView<?, ?>) node.view;
+                view.addValueObserver(valueObserver);
+                observedViews.add(view);
+            }
+        }
+    }
+
+    /**
+     * Re-validates all views, which depend on a specific view, in topological order.
+     *
+     * @param view
+     *         The view, whose value has been changed, as an instance of the type {@link
+     *         Validateable}. The view may not be null
+     */
+    private void revalidateDependents(@NonNull final Validateable<?> view) {
+        if (isOutdated()) {
+            build();
+        }
+
+        Node node = nodes.get(view);
+
+        if (node == null || node.dependents.isEmpty()) {
+            return;
+        }
+
+        stack.add(node);
+
+        while (!stack.isEmpty()) {
+            Node current = stack.remove(stack.size() - 1);
+
+            for (int i = 0; i < current.dependents.size(); i++) {
+                Node dependent = current.dependents.get(i);
+
+                if (!dependent.affected && dependent != node) {
+                    dependent.affected = true;
+                    stack.add(dependent);
+                }
+            }
+        }
+
+        for (int i = 0; i < topologicalOrder.size(); i++) {
+            Node current = topologicalOrder.get(i);
+
+            if (current.affected) {
+                current.affected = false;
+                revalidate(current.view);
+            }
+        }
+    }
+
+    /**
+     * Re-validates a specific view, if it has already been validated. Otherwise, only the result
+     * of its most recent validation is invalidated.
+     *
+     * @param view
+     *         The view, which should be re-validated, as an instance of the type {@link
+     *         Validateable}. The view may not be null
+     */
+    private void revalidate(@NonNull final Validateable<?> view) {
+        if (view instanceof AbstractValidateableView) {
+            AbstractValidateableView<?, ?> validateableView = (AbstractValidateableView<?, ?>) view;
+            boolean validated = validateableView.isValidationResultAvailable();
+            validateableView.invalidateValidationResult();
+
+            if (validated) {
+                validateableView.validateChangedValue();
+            }
+        } else {
+            view.validate(true);
+        }
+    }
+
+    /**
+     * Creates a new graph, which keeps track of the dependencies between the views of a form.
+     */
+    public ValidationDependencyGraph() {
+        this.views = new ArrayList<>();
+        this.validatorsVersions = new int[0];
+        this.nodes = new LinkedHashMap<>();
+        this.topologicalOrder = new ArrayList<>();
+        this.stack = new ArrayList<>();
+        this.observedViews = new ArrayList<>();
+        this.valueObserver = createValueObserver();
+    }
+
+    /**
+     * Adds a new view to the graph. The views, the validators of the view depend on, are
+     * observed, even if they are not added to the graph themselves.
+     *
+     * @param view
+     *         The view, which should be added, as an instance of the type {@link Validateable}.
+     *         The view may not be null
+     */
+    public final void addView(@NonNull final Validateable<?> view) {
+        Condition.INSTANCE.ensureNotNull(view, "The view may not be null");
+
+        if (!views.contains(view)) {
+            views.add(view);
+
+            if (view instanceof AbstractValidateableView) {
+                ((AbstractValidateableView<?, ?>) view).onAddedToDependencyGraph();
+            }
+
+            build();
+        }
+    }
+
+    /**
+     * Adds all views, which are contained by a specific collection, to the graph.
+     *
+     * @param views
+     *         A collection, which contains the views, which should be added, as an instance of
+     *         the type {@link Collection}. The collection may not be null
+     */
+    public final void addAllViews(@NonNull final Collection<? extends Validateable<?>> views) {
+        Condition.INSTANCE.ensureNotNull(views, "The collection may not be null");
+
+        for (Validateable<?> view : views) {
+            addView(view);
+        }
+    }
+
+    /**
+     * Removes a specific view from the graph.
+     *
+     * @param view
+     *         The view, which should be removed, as an instance of the type {@link Validateable}.
+     *         The view may not be null
+     */
+    public final void removeView(@NonNull final Validateable<?> view) {
+        Condition.INSTANCE.ensureNotNull(view, "The view may not be null");
+
+        if (views.remove(view)) {
+            if (view instanceof AbstractValidateableView) {
+                AbstractValidateableView<?, ?> validateableView =
+                        (AbstractValidateableView<?, ?>) view;
+                validateableView.onRemovedFromDependencyGraph();
+                validateableView.invalidateValidationResult();
+            }
+
+            build();
+        }
+    }
+
+    /**
+     * Removes all views from the graph.
+     */
+    public final void removeAllViews() {
+        for (Validateable<?> view : new ArrayList<>(views)) {
+            removeView(view);
+        }
+    }
+
+    /**
+     * Returns the views, which have been added to the graph.
+     *
+     * @return An unmodifiable collection, which contains the views, which have been added to the
+     * graph, as an instance of the type {@link Collection}
+     */
+    @NonNull
+    public final Collection<Validateable<?>> getViews() {
+        return Collections.unmodifiableList(views);
+    }
+
+    /**
+     * Invalidates the graph. This causes the graph to be built again immediately. This method must
+     * be invoked, if the dependencies of a validator have been changed after it has been added to
+     * a view.
+     */
+    public final void invalidate() {
+        build();
+    }
+
+}
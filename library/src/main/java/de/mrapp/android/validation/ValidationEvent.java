@@ -0,0 +1,182 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * An event, which describes the result of a single validation pass of a view. Events are pooled
+ * and reused. They are only valid during the invocation of the method {@link
+ * ValidationEventListener#onValidated(ValidationEvent)}. Listeners must therefore not keep
+ * references to an event, nor to the list, which is returned by the method {@link
+ * #getFailedValidators()}.
+ *
+ * @param <Type>
+ *         The type of the values, which have been validated
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public final class ValidationEvent<Type> {
+
+    /**
+     * The maximum number of events, which are kept in the pool.
+     */
+    private static final int MAX_POOL_SIZE = 8;
+
+    /**
+     * The object, which is used to synchronize the access to the pool.
+     */
+    private static final Object POOL_LOCK = new Object();
+
+    /**
+     * The first event, which is contained by the pool, or null, if the pool is empty.
+     */
+    private static ValidationEvent<?> pool;
+
+    /**
+     * The number of events, which are contained by the pool.
+     */
+    private static int poolSize;
+
+    /**
+     * The next event in the pool.
+     */
+    private ValidationEvent<?> next;
+
+    /**
+     * The view, whose value has been validated.
+     */
+    private Validateable<Type> view;
+
+    /**
+     * True, if the validation succeeded, false otherwise.
+     */
+    private boolean valid;
+
+    /**
+     * A list, which contains the validators, which failed.
+     */
+    private final List<Validator<Type>> failedValidators;
+
+    /**
+     * An unmodifiable view of the list, which contains the validators, which failed.
+     */
+    private final List<Validator<Type>> unmodifiableFailedValidators;
+
+    /**
+     * Creates a new event, which describes the result of a single validation pass of a view.
+     */
+    private ValidationEvent() {
+        this.failedValidators = new ArrayList<>();
+        this.unmodifiableFailedValidators = Collections.unmodifiableList(failedValidators);
+    }
+
+    /**
+     * Returns an event from the pool or creates a new one, if the pool is empty.
+     *
+     * @param <Type>
+     *         The type of the values, which have been validated
+     * @param view
+     *         The view, whose value has been validated, as an instance of the type {@link
+     *         Validateable}. The view may not be null
+     * @param failedValidators
+     *         A list, which contains the validators, which failed, as an instance of the type
+     *         {@link List} or an empty list, if the validation succeeded
+     * @return The event as an instance of the class {@link ValidationEvent}
+     */
+    @SuppressWarnings("unchecked")
+    static <Type> ValidationEvent<Type> obtain(@NonNull final Validateable<Type> view,
+                                               @NonNull final List<Validator<Type>>
+                                                       failedValidators) {
+        Condition.INSTANCE.ensureNotNull(view, "The view may not be null");
+        Condition.INSTANCE.ensureNotNull(failedValidators, "The list may not be null");
+        ValidationEvent<Type> event = null;
+
+        synchronized (POOL_LOCK) {
+            if (pool != null) {
+                event = (ValidationEvent<Type>) pool;
+                pool = event.next;
+                event.next = null;
+                poolSize--;
+            }
+        }
+
+        if (event == null) {
+            event = new ValidationEvent<>();
+        }
+
+        event.view = view;
+        event.valid = failedValidators.isEmpty();
+
+        for (int i = 0; i < failedValidators.size(); i++) {
+            event.failedValidators.add(failedValidators.get(i));
+        }
+
+        return event;
+    }
+
+    /**
+     * Returns the event to the pool. The event must not be used afterwards.
+     */
+    void recycle() {
+        view = null;
+        valid = false;
+        failedValidators.clear();
+
+        synchronized (POOL_LOCK) {
+            if (poolSize < MAX_POOL_SIZE) {
+                next = pool;
+                pool = this;
+                poolSize++;
+            }
+        }
+    }
+
+    /**
+     * Returns the view, whose value has been validated.
+     *
+     * @return The view, whose value has been validated, as an instance of the type {@link
+     * Validateable}
+     */
+    @NonNull
+    public Validateable<Type> getView() {
+        return view;
+    }
+
+    /**
+     * Returns, whether the validation succeeded, or not.
+     *
+     * @return True, if the validation succeeded, false otherwise
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Returns a list, which contains all validators, which failed.
+     *
+     * @return An unmodifiable list, which contains all validators, which failed, as an instance of
+     * the type {@link List} or an empty list, if the validation succeeded
+     */
+    @NonNull
+    public List<Validator<Type>> getFailedValidators() {
+        return unmodifiableFailedValidators;
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Defines the interface, a class, which should be notified once per validation pass of a view,
+ * must implement.
+ *
+ * @param <Type>
+ *         The type of the values, which should be validated
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public interface ValidationEventListener<Type> {
+
+    /**
+     * The method, which is invoked, when a view has been validated. If the view uses asynchronous
+     * validators, the method is invoked, once their result is available.
+     *
+     * @param event
+     *         The event, which describes the result of the validation, as an instance of the class
+     *         {@link ValidationEvent}. The event is only valid during the invocation of this method
+     */
+    void onValidated(@NonNull ValidationEvent<Type> event);
+
+}
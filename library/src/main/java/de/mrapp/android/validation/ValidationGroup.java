@@ -0,0 +1,679 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.Choreographer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.util.Condition;
+
+/**
+ * A group of views, whose values can be validated at once, e.g. when a form is submitted. The
+ * validation is performed in two phases: At first, the synchronous validators of all views are
+ * executed without adapting the appearance of the views. Afterwards, the asynchronous validators
+ * of all views are executed in parallel on background threads. Once all of them have finished,
+ * the results are applied to the views on the UI thread. In order to prevent frames from being
+ * dropped, both the synchronous validators are executed and the results are applied in chunks,
+ * which fit into a specific time budget per frame. The synchronous validators are executed on the
+ * UI thread, because they access the values and the state of the views. If a view is validated
+ * in the meantime, e.g. because its value has been changed, it is evaluated again, before the
+ * callback is notified.
+ * <p>
+ * Views, which are not derived from the class {@link AbstractValidateableView}, are validated by
+ * invoking their method {@link Validateable#validate()} during the second phase.
+ * <p>
+ * The methods of this class must only be invoked on the UI thread.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public class ValidationGroup {
+
+    /**
+     * Defines the interface, a class, which should be notified, when all views of a group have
+     * been validated, must implement.
+     */
+    public interface Callback {
+
+        /**
+         * The method, which is invoked, when all views of a group have been validated.
+         *
+         * @param group
+         *         The group, whose views have been validated, as an instance of the class {@link
+         *         ValidationGroup}. The group may not be null
+         * @param valid
+         *         True, if the values of all views are valid, false otherwise
+         * @param invalidViews
+         *         A collection, which contains the views, whose values are invalid, as an instance
+         *         of the type {@link Collection} or an empty collection, if the values of all views
+         *         are valid
+         */
+        void onGroupValidated(@NonNull ValidationGroup group, boolean valid,
+                              @NonNull Collection<Validateable<?>> invalidViews);
+
+    }
+
+    /**
+     * Encapsulates the evaluation of a single view of a group.
+     *
+     * @param <ValueType>
+     *         The type of the values, which are validated by the view
+     */
+    private static final class Member<ValueType> {
+
+        /**
+         * The view, the member corresponds to.
+         */
+        private final Validateable<ValueType> view;
+
+        /**
+         * The evaluation of the view's synchronous validators or null, if the view is not derived
+         * from the class {@link AbstractValidateableView}.
+         */
+        private AbstractValidateableView.Evaluation<ValueType> evaluation;
+
+        /**
+         * A list, which contains the asynchronous validators, which failed, or null, if no
+         * asynchronous validators have been executed.
+         */
+        private volatile List<Validator<ValueType>> asyncFailedValidators;
+
+        /**
+         * Creates a new member of a group.
+         *
+         * @param view
+         *         The view, the member corresponds to, as an instance of the type {@link
+         *         Validateable}. The view may not be null
+         */
+        Member(@NonNull final Validateable<ValueType> view) {
+            this.view = view;
+        }
+
+        /**
+         * Executes the synchronous validators of the view without adapting its appearance.
+         */
+        void evaluate() {
+            if (view instanceof AbstractValidateableView) {
+                evaluation = getValidateableView().evaluate();
+            } else {
+                evaluation = null;
+            }
+
+            asyncFailedValidators = null;
+        }
+
+        /**
+         * Returns, whether asynchronous validators must be executed, or not.
+         *
+         * @return True, if asynchronous validators must be executed, false otherwise
+         */
+        boolean hasAsyncValidators() {
+            return evaluation != null && evaluation.asyncValidators != null;
+        }
+
+        /**
+         * Executes the asynchronous validators of the view. This method is supposed to be invoked
+         * on a background thread.
+         */
+        void executeAsyncValidators() {
+            asyncFailedValidators = getValidateableView()
+                    .executeAsyncValidators(evaluation.generation, evaluation.value,
+                            evaluation.asyncValidators, evaluation.failFast);
+        }
+
+        /**
+         * Returns, whether the evaluation has become outdated, because the view has been validated
+         * in the meantime, or not.
+         *
+         * @return True, if the evaluation has become outdated, false otherwise
+         */
+        boolean isOutdated() {
+            return evaluation != null && (!getValidateableView().isCurrent(evaluation) ||
+                    (hasAsyncValidators() && asyncFailedValidators == null));
+        }
+
+        /**
+         * Adapts the appearance of the view depending on the result of the evaluation. If the view
+         * is not derived from the class {@link AbstractValidateableView}, it is validated instead.
+         * If the evaluation has become outdated, the result of the view's most recent validation
+         * is used.
+         *
+         * @return True, if the value of the view is valid, false otherwise
+         */
+        boolean apply() {
+            if (evaluation == null) {
+                return view.validate();
+            } else if (isOutdated()) {
+                return view.isValid();
+            }
+
+            return getValidateableView().applyEvaluation(evaluation, asyncFailedValidators);
+        }
+
+        /**
+         * Returns the view, the member corresponds to, as an instance of the class {@link
+         * AbstractValidateableView}.
+         *
+         * @return The view as an instance of the class {@link AbstractValidateableView}
+         */
+        @SuppressWarnings("unchecked")
+        private AbstractValidateableView<?, ValueType> getValidateableView() {
+            return (AbstractValidateableView<?, ValueType>) view;
+        }
+
+    }
+
+    /**
+     * Encapsulates the state of a single validation of a group.
+     */
+    private static final class Pass {
+
+        /**
+         * The generation of the validation.
+         */
+        private final int generation;
+
+        /**
+         * The callback, which should be notified, when all views have been validated, or null, if
+         * no callback should be notified.
+         */
+        private final Callback callback;
+
+        /**
+         * A list, which contains the views, whose values are invalid.
+         */
+        private final List<Validateable<?>> invalidViews;
+
+        /**
+         * A list, which contains the members, whose evaluations have become outdated and must be
+         * evaluated again.
+         */
+        private final List<Member<?>> outdatedMembers;
+
+        /**
+         * The number of times, outdated members have been evaluated again.
+         */
+        private int reevaluations;
+
+        /**
+         * Creates a new validation of a group.
+         *
+         * @param generation
+         *         The generation of the validation as an {@link Integer} value
+         * @param callback
+         *         The callback, which should be notified, when all views have been validated, as
+         *         an instance of the type {@link Callback} or null, if no callback should be
+         *         notified
+         */
+        Pass(final int generation, @Nullable final Callback callback) {
+            this.generation = generation;
+            this.callback = callback;
+            this.invalidViews = new ArrayList<>();
+            this.outdatedMembers = new ArrayList<>();
+            this.reevaluations = 0;
+        }
+
+    }
+
+    /**
+     * The maximum number of times, members, whose evaluations have become outdated, are evaluated
+     * again during a single validation. Afterwards, the results of the views' most recent
+     * validations are used.
+     */
+    private static final int MAX_REEVALUATIONS = 2;
+
+    /**
+     * The default time budget per frame, which is used to execute the synchronous validators and to
+     * apply the results of a validation, in nanoseconds.
+     */
+    public static final long DEFAULT_FRAME_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+
+    /**
+     * A list, which contains the views of the group.
+     */
+    private final List<Validateable<?>> views;
+
+    /**
+     * The time budget per frame, which is used to execute the synchronous validators and to apply
+     * the results of a validation, in nanoseconds.
+     */
+    private long frameBudgetNanos;
+
+    /**
+     * The executor, which is used to execute asynchronous validators.
+     */
+    private Executor executor;
+
+    /**
+     * The generation of the current validation. It is incremented whenever a validation is
+     * started or canceled.
+     */
+    private int generation;
+
+    /**
+     * True, if a validation is currently in progress, false otherwise.
+     */
+    private boolean validating;
+
+    /**
+     * Creates and returns a member of the group, which corresponds to a specific view.
+     *
+     * @param view
+     *         The view, the member should correspond to, as an instance of the type {@link
+     *         Validateable}. The view may not be null
+     * @return The member, which has been created, as an instance of the class {@link Member}
+     */
+    private static <ValueType> Member<ValueType> createMember(
+            @NonNull final Validateable<ValueType> view) {
+        return new Member<>(view);
+    }
+
+    /**
+     * Executes the synchronous validators of specific members of the group, starting at a specific
+     * index. If the time budget of the current frame is exceeded, the remaining members are
+     * evaluated during the next frame. Once all members have been evaluated, their asynchronous
+     * validators are executed.
+     *
+     * @param pass
+     *         The validation, the members belong to, as an instance of the class {@link Pass}. The
+     *         validation may not be null
+     * @param members
+     *         A list, which contains the members, which should be evaluated, as an instance of the
+     *         type {@link List}. The list may not be null
+     * @param startIndex
+     *         The index of the first member, which should be evaluated, as an {@link Integer}
+     *         value
+     */
+    private void evaluateMembers(@NonNull final Pass pass, @NonNull final List<Member<?>> members,
+                                 final int startIndex) {
+        if (pass.generation != generation) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + frameBudgetNanos;
+        int index = startIndex;
+
+        while (index < members.size()) {
+            members.get(index++).evaluate();
+
+            if (index < members.size() && System.nanoTime() >= deadline) {
+                final int nextIndex = index;
+                scheduleNextFrame(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        evaluateMembers(pass, members, nextIndex);
+                    }
+
+                });
+                return;
+            }
+        }
+
+        executeAsyncValidators(pass, members);
+    }
+
+    /**
+     * Executes the asynchronous validators of specific members in parallel and starts the second
+     * phase of the validation, once all of them have finished.
+     *
+     * @param pass
+     *         The validation, the members belong to, as an instance of the class {@link Pass}. The
+     *         validation may not be null
+     * @param members
+     *         A list, which contains the members, which have been evaluated, as an instance of the
+     *         type {@link List}. The list may not be null
+     */
+    private void executeAsyncValidators(@NonNull final Pass pass,
+                                        @NonNull final List<Member<?>> members) {
+        List<Member<?>> asyncMembers = new ArrayList<>();
+
+        for (Member<?> member : members) {
+            if (member.hasAsyncValidators()) {
+                asyncMembers.add(member);
+            }
+        }
+
+        if (asyncMembers.isEmpty()) {
+            applyResults(pass, members, 0);
+        } else {
+            AtomicInteger remaining = new AtomicInteger(asyncMembers.size());
+
+            for (Member<?> member : asyncMembers) {
+                executor.execute(createAsyncValidationTask(pass, member, remaining, members));
+            }
+        }
+    }
+
+    /**
+     * Creates and returns a task, which executes the asynchronous validators of a specific member.
+     *
+     * @param pass
+     *         The validation, the member belongs to, as an instance of the class {@link Pass}. The
+     *         validation may not be null
+     * @param member
+     *         The member, whose asynchronous validators should be executed, as an instance of the
+     *         class {@link Member}. The member may not be null
+     * @param remaining
+     *         The number of members, whose asynchronous validators are still executed, as an
+     *         instance of the class {@link AtomicInteger}. The number may not be null
+     * @param members
+     *         A list, which contains the members, which have been evaluated, as an instance of the
+     *         type {@link List}. The list may not be null
+     * @return The task, which has been created, as an instance of the type {@link Runnable}
+     */
+    private Runnable createAsyncValidationTask(@NonNull final Pass pass,
+                                               @NonNull final Member<?> member,
+                                               @NonNull final AtomicInteger remaining,
+                                               @NonNull final List<Member<?>> members) {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    member.executeAsyncValidators();
+                } finally {
+                    if (remaining.decrementAndGet() == 0) {
+                        AsyncValidationExecutor.getInstance().postToMainThread(new Runnable() {
+
+                            @Override
+                            public void run() {
+                                applyResults(pass, members, 0);
+                            }
+
+                        });
+                    }
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Applies the results of the validation to specific members of the group, starting at a
+     * specific index. If the time budget of the current frame is exceeded, the remaining results
+     * are applied during the next frame. Members, whose evaluations have become outdated in the
+     * meantime, are evaluated again during the next frame, instead of being validated
+     * synchronously. Once the results of all members have been applied, the callback is notified.
+     *
+     * @param pass
+     *         The validation, the members belong to, as an instance of the class {@link Pass}. The
+     *         validation may not be null
+     * @param members
+     *         A list, which contains the members, whose results should be applied, as an instance
+     *         of the type {@link List}. The list may not be null
+     * @param startIndex
+     *         The index of the first member, whose result should be applied, as an {@link
+     *         Integer} value
+     */
+    private void applyResults(@NonNull final Pass pass, @NonNull final List<Member<?>> members,
+                              final int startIndex) {
+        if (pass.generation != generation) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + frameBudgetNanos;
+        int index = startIndex;
+
+        while (index < members.size()) {
+            Member<?> member = members.get(index++);
+
+            if (member.isOutdated() && pass.reevaluations < MAX_REEVALUATIONS) {
+                pass.outdatedMembers.add(member);
+            } else if (!member.apply()) {
+                pass.invalidViews.add(member.view);
+            }
+
+            if (index < members.size() && System.nanoTime() >= deadline) {
+                final int nextIndex = index;
+                scheduleNextFrame(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        applyResults(pass, members, nextIndex);
+                    }
+
+                });
+                return;
+            }
+        }
+
+        if (!pass.outdatedMembers.isEmpty()) {
+            final List<Member<?>> outdatedMembers = new ArrayList<>(pass.outdatedMembers);
+            pass.outdatedMembers.clear();
+            pass.reevaluations++;
+            scheduleNextFrame(new Runnable() {
+
+                @Override
+                public void run() {
+                    evaluateMembers(pass, outdatedMembers, 0);
+                }
+
+            });
+            return;
+        }
+
+        validating = false;
+
+        if (pass.callback != null) {
+            pass.callback.onGroupValidated(this, pass.invalidViews.isEmpty(),
+                    Collections.unmodifiableList(pass.invalidViews));
+        }
+    }
+
+    /**
+     * Schedules a specific task, which continues the validation, to be executed during the next
+     * frame.
+     *
+     * @param task
+     *         The task, which should be executed, as an instance of the type {@link Runnable}. The
+     *         task may not be null
+     */
+    private void scheduleNextFrame(@NonNull final Runnable task) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            postFrameCallback(task);
+        } else {
+            AsyncValidationExecutor.getInstance().postToMainThread(task);
+        }
+    }
+
+    /**
+     * Executes a specific task at the beginning of the next frame.
+     *
+     * @param task
+     *         The task, which should be executed, as an instance of the type {@link Runnable}. The
+     *         task may not be null
+     */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private void postFrameCallback(@NonNull final Runnable task) {
+        Choreographer.getInstance().postFrameCallback(new Choreographer.FrameCallback() {
+
+            @Override
+            public void doFrame(final long frameTimeNanos) {
+                task.run();
+            }
+
+        });
+    }
+
+    /**
+     * Creates a new group of views, whose values can be validated at once.
+     */
+    public ValidationGroup() {
+        this.views = new ArrayList<>();
+        this.frameBudgetNanos = DEFAULT_FRAME_BUDGET_NANOS;
+        this.executor = AsyncValidationExecutor.getInstance();
+        this.generation = 0;
+        this.validating = false;
+    }
+
+    /**
+     * Adds a new view to the group.
+     *
+     * @param view
+     *         The view, which should be added, as an instance of the type {@link Validateable}.
+     *         The view may not be null
+     */
+    public final void addView(@NonNull final Validateable<?> view) {
+        Condition.INSTANCE.ensureNotNull(view, "The view may not be null");
+
+        if (!views.contains(view)) {
+            views.add(view);
+        }
+    }
+
+    /**
+     * Adds all views, which are contained by a specific collection, to the group.
+     *
+     * @param views
+     *         A collection, which contains the views, which should be added, as an instance of
+     *         the type {@link Collection}. The collection may not be null
+     */
+    public final void addAllViews(@NonNull final Collection<? extends Validateable<?>> views) {
+        Condition.INSTANCE.ensureNotNull(views, "The collection may not be null");
+
+        for (Validateable<?> view : views) {
+            addView(view);
+        }
+    }
+
+    /**
+     * Removes a specific view from the group.
+     *
+     * @param view
+     *         The view, which should be removed, as an instance of the type {@link Validateable}.
+     *         The view may not be null
+     */
+    public final void removeView(@NonNull final Validateable<?> view) {
+        Condition.INSTANCE.ensureNotNull(view, "The view may not be null");
+        views.remove(view);
+    }
+
+    /**
+     * Removes all views from the group.
+     */
+    public final void removeAllViews() {
+        views.clear();
+    }
+
+    /**
+     * Returns the views of the group.
+     *
+     * @return An unmodifiable collection, which contains the views of the group, as an instance of
+     * the type {@link Collection}
+     */
+    @NonNull
+    public final Collection<Validateable<?>> getViews() {
+        return Collections.unmodifiableList(views);
+    }
+
+    /**
+     * Returns the time budget per frame, which is used to execute the synchronous validators and
+     * to apply the results of a validation.
+     *
+     * @return The time budget per frame in nanoseconds as a {@link Long} value
+     */
+    public final long getFrameBudgetNanos() {
+        return frameBudgetNanos;
+    }
+
+    /**
+     * Sets the time budget per frame, which should be used to execute the synchronous validators
+     * and to apply the results of a validation. At least one view is evaluated, respectively the
+     * result of at least one view is applied, per frame, regardless of the budget.
+     *
+     * @param frameBudgetNanos
+     *         The time budget, which should be set, in nanoseconds as a {@link Long} value. The
+     *         time budget must be at least 1
+     */
+    public final void setFrameBudgetNanos(final long frameBudgetNanos) {
+        Condition.INSTANCE
+                .ensureAtLeast(frameBudgetNanos, 1, "The frame budget must be at least 1");
+        this.frameBudgetNanos = frameBudgetNanos;
+    }
+
+    /**
+     * Returns the executor, which is used to execute asynchronous validators.
+     *
+     * @return The executor, which is used to execute asynchronous validators, as an instance of
+     * the type {@link Executor}
+     */
+    @NonNull
+    public final Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor, which should be used to execute asynchronous validators.
+     *
+     * @param executor
+     *         The executor, which should be set, as an instance of the type {@link Executor}. The
+     *         executor may not be null
+     */
+    public final void setExecutor(@NonNull final Executor executor) {
+        Condition.INSTANCE.ensureNotNull(executor, "The executor may not be null");
+        this.executor = executor;
+    }
+
+    /**
+     * Returns, whether a validation is currently in progress, or not.
+     *
+     * @return True, if a validation is currently in progress, false otherwise
+     */
+    public final boolean isValidating() {
+        return validating;
+    }
+
+    /**
+     * Validates the values of all views of the group. If a validation is already in progress, it
+     * is canceled.
+     *
+     * @param callback
+     *         The callback, which should be notified, when all views have been validated, as an
+     *         instance of the type {@link Callback} or null, if no callback should be notified
+     */
+    public final void validate(@Nullable final Callback callback) {
+        Pass pass = new Pass(++generation, callback);
+        validating = true;
+        List<Member<?>> members = new ArrayList<>(views.size());
+
+        for (Validateable<?> view : views) {
+            members.add(createMember(view));
+        }
+
+        evaluateMembers(pass, members, 0);
+    }
+
+    /**
+     * Cancels the current validation, if any. Views, which have not been evaluated yet, are not
+     * validated anymore, the results, which have not been applied yet, are discarded and the
+     * callback is not notified.
+     */
+    public final void cancel() {
+        generation++;
+        validating = false;
+    }
+
+}
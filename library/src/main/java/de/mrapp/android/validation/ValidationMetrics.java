@@ -0,0 +1,595 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Records metrics about the validation of values, namely the number of invocations, successes and
+ * failures, as well as latency histograms, per validator class, per view and for the time between a
+ * value being changed and the result of its validation being shown. Metrics are disabled by
+ * default. While they are disabled, the instrumented code paths only read a single field.
+ * <p>
+ * Latencies are recorded into fixed buckets (see {@link #getBucketBounds()}) by using atomic
+ * counters. Therefore, recording metrics does not allocate any memory, once a validator class or
+ * view has been seen, and it is safe to record metrics on background threads.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public final class ValidationMetrics {
+
+    /**
+     * Contains the metrics, which have been recorded for a single validator class or view.
+     */
+    public static final class Entry {
+
+        /**
+         * The name of the validator class or view.
+         */
+        private final String name;
+
+        /**
+         * The number of invocations.
+         */
+        private final long count;
+
+        /**
+         * The number of invocations, which succeeded.
+         */
+        private final long passed;
+
+        /**
+         * The number of invocations, which failed.
+         */
+        private final long failed;
+
+        /**
+         * The total duration of all invocations in nanoseconds.
+         */
+        private final long totalNanos;
+
+        /**
+         * The maximum duration of an invocation in nanoseconds.
+         */
+        private final long maxNanos;
+
+        /**
+         * The number of invocations per latency bucket.
+         */
+        private final long[] histogram;
+
+        /**
+         * Creates a new entry, which contains the metrics, which have been recorded for a single
+         * validator class or view.
+         *
+         * @param name
+         *         The name of the validator class or view as a {@link String}. The name may not be
+         *         null
+         * @param recorder
+         *         The recorder, the metrics should be copied from, as an instance of the class
+         *         {@link Recorder}. The recorder may not be null
+         */
+        private Entry(@NonNull final String name, @NonNull final Recorder recorder) {
+            this.name = name;
+            this.count = recorder.count.get();
+            this.passed = recorder.passed.get();
+            this.failed = recorder.failed.get();
+            this.totalNanos = recorder.totalNanos.get();
+            this.maxNanos = recorder.maxNanos.get();
+            this.histogram = new long[recorder.histogram.length()];
+
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] = recorder.histogram.get(i);
+            }
+        }
+
+        /**
+         * Returns the name of the validator class or view.
+         *
+         * @return The name of the validator class or view as a {@link String}
+         */
+        @NonNull
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the number of invocations.
+         *
+         * @return The number of invocations as a {@link Long} value
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the number of invocations, which succeeded.
+         *
+         * @return The number of invocations, which succeeded, as a {@link Long} value
+         */
+        public long getPassed() {
+            return passed;
+        }
+
+        /**
+         * Returns the number of invocations, which failed.
+         *
+         * @return The number of invocations, which failed, as a {@link Long} value
+         */
+        public long getFailed() {
+            return failed;
+        }
+
+        /**
+         * Returns the total duration of all invocations.
+         *
+         * @return The total duration of all invocations in nanoseconds as a {@link Long} value
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Returns the mean duration of an invocation.
+         *
+         * @return The mean duration of an invocation in nanoseconds as a {@link Long} value or 0,
+         * if no invocations have been recorded
+         */
+        public long getMeanNanos() {
+            return count > 0 ? totalNanos / count : 0;
+        }
+
+        /**
+         * Returns the maximum duration of an invocation.
+         *
+         * @return The maximum duration of an invocation in nanoseconds as a {@link Long} value
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Returns the number of invocations per latency bucket. The element at index i
+         * corresponds to the invocations, which took less than the i-th bound of the array, which
+         * is returned by the method {@link ValidationMetrics#getBucketBounds()}, but at least the
+         * previous bound. The last element corresponds to all invocations, which took longer.
+         *
+         * @return A copy of the array, which contains the number of invocations per latency
+         * bucket, as a {@link Long} array
+         */
+        @NonNull
+        public long[] getHistogram() {
+            return histogram.clone();
+        }
+
+    }
+
+    /**
+     * Contains the metrics, which have been recorded up to a certain point in time.
+     */
+    public static final class Snapshot {
+
+        /**
+         * The metrics of the validators, mapped to the names of their classes.
+         */
+        private final Map<String, Entry> validators;
+
+        /**
+         * The metrics of the method {@link Validateable#validate()}, mapped to the names of the
+         * views.
+         */
+        private final Map<String, Entry> views;
+
+        /**
+         * The metrics of the time between a value being changed and the result of its validation
+         * being shown, mapped to the names of the views.
+         */
+        private final Map<String, Entry> valueChanges;
+
+        /**
+         * Creates and returns a map, which contains entries, which have been copied from specific
+         * recorders.
+         *
+         * @param recorders
+         *         A map, which contains the recorders, mapped to their names, as an instance of the
+         *         type {@link Map}. The map may not be null
+         * @return An unmodifiable map, which contains the entries, which have been created, as an
+         * instance of the type {@link Map}
+         */
+        private static Map<String, Entry> copy(@NonNull final Map<String, Recorder> recorders) {
+            Map<String, Entry> result = new HashMap<>();
+
+            for (Map.Entry<String, Recorder> entry : recorders.entrySet()) {
+                result.put(entry.getKey(), new Entry(entry.getKey(), entry.getValue()));
+            }
+
+            return Collections.unmodifiableMap(result);
+        }
+
+        /**
+         * Creates a new snapshot, which contains the metrics, which have been recorded by a
+         * specific instance of the class {@link ValidationMetrics}.
+         *
+         * @param metrics
+         *         The metrics, the snapshot should be created from, as an instance of the class
+         *         {@link ValidationMetrics}. The metrics may not be null
+         */
+        private Snapshot(@NonNull final ValidationMetrics metrics) {
+            this.validators = copy(metrics.validators);
+            this.views = copy(metrics.views);
+            this.valueChanges = copy(metrics.valueChanges);
+        }
+
+        /**
+         * Returns the metrics of the validators.
+         *
+         * @return An unmodifiable map, which contains the metrics of the validators, mapped to the
+         * names of their classes, as an instance of the type {@link Map}
+         */
+        @NonNull
+        public Map<String, Entry> getValidators() {
+            return validators;
+        }
+
+        /**
+         * Returns the metrics of the method {@link Validateable#validate()} per view. Views are
+         * named after their classes and resource ids.
+         *
+         * @return An unmodifiable map, which contains the metrics of the method, mapped to the
+         * names of the views, as an instance of the type {@link Map}
+         */
+        @NonNull
+        public Map<String, Entry> getViews() {
+            return views;
+        }
+
+        /**
+         * Returns the metrics of the time between a value being changed and the result of its
+         * validation being shown, e.g. between a keystroke and the corresponding error message
+         * being updated.
+         *
+         * @return An unmodifiable map, which contains the metrics, mapped to the names of the
+         * views, as an instance of the type {@link Map}
+         */
+        @NonNull
+        public Map<String, Entry> getValueChanges() {
+            return valueChanges;
+        }
+
+    }
+
+    /**
+     * Records the metrics of a single validator class or view by using atomic counters.
+     */
+    private static final class Recorder {
+
+        /**
+         * The number of invocations.
+         */
+        private final AtomicLong count = new AtomicLong();
+
+        /**
+         * The number of invocations, which succeeded.
+         */
+        private final AtomicLong passed = new AtomicLong();
+
+        /**
+         * The number of invocations, which failed.
+         */
+        private final AtomicLong failed = new AtomicLong();
+
+        /**
+         * The total duration of all invocations in nanoseconds.
+         */
+        private final AtomicLong totalNanos = new AtomicLong();
+
+        /**
+         * The maximum duration of an invocation in nanoseconds.
+         */
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        /**
+         * The number of invocations per latency bucket.
+         */
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKET_BOUNDS.length + 1);
+
+        /**
+         * Records a single invocation.
+         *
+         * @param nanos
+         *         The duration of the invocation in nanoseconds as a {@link Long} value
+         * @param outcome
+         *         The outcome of the invocation. Must either be {@link #PASSED}, {@link #FAILED}
+         *         or {@link #UNKNOWN}
+         */
+        private void record(final long nanos, final int outcome) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            histogram.incrementAndGet(getBucket(nanos));
+
+            if (outcome == PASSED) {
+                passed.incrementAndGet();
+            } else if (outcome == FAILED) {
+                failed.incrementAndGet();
+            }
+
+            long max = maxNanos.get();
+
+            while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+                max = maxNanos.get();
+            }
+        }
+
+    }
+
+    /**
+     * The outcome of an invocation, which succeeded.
+     */
+    private static final int PASSED = 1;
+
+    /**
+     * The outcome of an invocation, which failed.
+     */
+    private static final int FAILED = 0;
+
+    /**
+     * The outcome of an invocation, whose result is not known.
+     */
+    private static final int UNKNOWN = -1;
+
+    /**
+     * The upper bounds of the latency buckets in nanoseconds.
+     */
+    private static final long[] BUCKET_BOUNDS =
+            {50000L, 100000L, 250000L, 500000L, 1000000L, 2000000L, 4000000L, 8000000L, 16000000L,
+                    32000000L};
+
+    /**
+     * The single instance of the class.
+     */
+    private static final ValidationMetrics INSTANCE = new ValidationMetrics();
+
+    /**
+     * The instance of the class, if metrics are enabled, or null, if they are disabled.
+     */
+    private static volatile ValidationMetrics active;
+
+    /**
+     * The recorders of the validators, mapped to the names of their classes.
+     */
+    private final ConcurrentMap<String, Recorder> validators;
+
+    /**
+     * The recorders of the views, mapped to their names.
+     */
+    private final ConcurrentMap<String, Recorder> views;
+
+    /**
+     * The recorders of the value changes of the views, mapped to the names of the views.
+     */
+    private final ConcurrentMap<String, Recorder> valueChanges;
+
+    /**
+     * Returns the index of the bucket, which corresponds to a specific duration.
+     *
+     * @param nanos
+     *         The duration in nanoseconds as a {@link Long} value
+     * @return The index of the bucket as an {@link Integer} value
+     */
+    private static int getBucket(final long nanos) {
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            if (nanos < BUCKET_BOUNDS[i]) {
+                return i;
+            }
+        }
+
+        return BUCKET_BOUNDS.length;
+    }
+
+    /**
+     * Returns the recorder, which corresponds to a specific name. If no such recorder exists, it
+     * is created.
+     *
+     * @param recorders
+     *         The map, which contains the recorders, as an instance of the type {@link
+     *         ConcurrentMap}. The map may not be null
+     * @param name
+     *         The name as a {@link String}. The name may not be null
+     * @return The recorder, which corresponds to the given name, as an instance of the class
+     * {@link Recorder}
+     */
+    private static Recorder getRecorder(@NonNull final ConcurrentMap<String, Recorder> recorders,
+                                        @NonNull final String name) {
+        Recorder recorder = recorders.get(name);
+
+        if (recorder == null) {
+            Recorder newRecorder = new Recorder();
+            recorder = recorders.putIfAbsent(name, newRecorder);
+
+            if (recorder == null) {
+                recorder = newRecorder;
+            }
+        }
+
+        return recorder;
+    }
+
+    /**
+     * Creates a new object, which records metrics about the validation of values.
+     */
+    private ValidationMetrics() {
+        this.validators = new ConcurrentHashMap<>();
+        this.views = new ConcurrentHashMap<>();
+        this.valueChanges = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the single instance of the class, if metrics are enabled.
+     *
+     * @return The single instance of the class as an instance of the class {@link
+     * ValidationMetrics} or null, if metrics are disabled
+     */
+    @Nullable
+    static ValidationMetrics getActive() {
+        return active;
+    }
+
+    /**
+     * Records the duration and the result of the method {@link Validateable#validate()} for a
+     * specific view.
+     *
+     * @param name
+     *         The name of the view as a {@link String}. The name may not be null
+     * @param nanos
+     *         The duration in nanoseconds as a {@link Long} value
+     * @param valid
+     *         True, if the view's value is valid, false otherwise
+     */
+    void recordView(@NonNull final String name, final long nanos, final boolean valid) {
+        getRecorder(views, name).record(nanos, valid ? PASSED : FAILED);
+    }
+
+    /**
+     * Records the time between the value of a specific view being changed and the result of its
+     * validation being shown.
+     *
+     * @param name
+     *         The name of the view as a {@link String}. The name may not be null
+     * @param nanos
+     *         The duration in nanoseconds as a {@link Long} value
+     */
+    void recordValueChange(@NonNull final String name, final long nanos) {
+        getRecorder(valueChanges, name).record(nanos, UNKNOWN);
+    }
+
+    /**
+     * Returns the single instance of the class.
+     *
+     * @return The single instance of the class as an instance of the class {@link
+     * ValidationMetrics}
+     */
+    @NonNull
+    public static ValidationMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the upper bounds of the latency buckets, which are used by the histograms.
+     *
+     * @return A copy of the array, which contains the upper bounds of the latency buckets in
+     * nanoseconds, as a {@link Long} array
+     */
+    @NonNull
+    public static long[] getBucketBounds() {
+        return BUCKET_BOUNDS.clone();
+    }
+
+    /**
+     * Executes a specific validator and records its metrics, if metrics are enabled. If a {@link
+     * ValidationTracer} has been set, the execution is traced as a section, which is named after
+     * the validator's class. This method should be used by validators, which consist of other
+     * validators, in order to execute them.
+     *
+     * @param validator
+     *         The validator, which should be executed, as an instance of the type {@link
+     *         Validator}. The validator may not be null
+     * @param value
+     *         The value, which should be validated, as an instance of the generic type Type
+     * @param <Type>
+     *         The type of the value, which should be validated
+     * @return True, if the given value is valid, false otherwise
+     */
+    public static <Type> boolean validate(@NonNull final Validator<Type> validator,
+                                          final Type value) {
+        ValidationMetrics metrics = active;
+        ValidationTracer tracer = ValidationTracing.getTracer();
+
+        if (metrics == null && tracer == null) {
+            return validator.validate(value);
+        }
+
+        String name = validator.getClass().getName();
+        long start = System.nanoTime();
+        boolean result;
+
+        if (tracer != null) {
+            tracer.beginSection(name);
+        }
+
+        try {
+            result = validator.validate(value);
+        } finally {
+            if (tracer != null) {
+                tracer.endSection();
+            }
+        }
+
+        if (metrics != null) {
+            getRecorder(metrics.validators, name).record(System.nanoTime() - start,
+                    result ? PASSED : FAILED);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns, whether metrics are enabled, or not.
+     *
+     * @return True, if metrics are enabled, false otherwise
+     */
+    public boolean isEnabled() {
+        return active != null;
+    }
+
+    /**
+     * Sets, whether metrics should be enabled, or not. Metrics, which have already been recorded,
+     * are retained, when metrics are disabled.
+     *
+     * @param enabled
+     *         True, if metrics should be enabled, false otherwise
+     */
+    public void setEnabled(final boolean enabled) {
+        active = enabled ? this : null;
+    }
+
+    /**
+     * Returns a snapshot of the metrics, which have been recorded so far.
+     *
+     * @return The snapshot as an instance of the class {@link Snapshot}
+     */
+    @NonNull
+    public Snapshot getSnapshot() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Discards all metrics, which have been recorded so far.
+     */
+    public void reset() {
+        validators.clear();
+        views.clear();
+        valueChanges.clear();
+    }
+
+}
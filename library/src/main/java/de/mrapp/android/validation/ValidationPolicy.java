@@ -0,0 +1,43 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+/**
+ * Contains all policies, which specify whether the validation of a view's value should be stopped
+ * at the first validator, which fails, or whether all validators should be executed.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public enum ValidationPolicy {
+
+    /**
+     * If the validation should be stopped at the first validator, which fails, when the value is
+     * validated automatically, e.g. because it has been changed or because the view lost its
+     * focus, and if all validators should be executed, when the value is validated explicitly.
+     */
+    AUTOMATIC,
+
+    /**
+     * If the validation should always be stopped at the first validator, which fails.
+     */
+    FAIL_FAST,
+
+    /**
+     * If all validators should always be executed and the listeners should be notified about each
+     * validator, which fails.
+     */
+    COLLECT_ALL
+
+}
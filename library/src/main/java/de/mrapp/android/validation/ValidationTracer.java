@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Defines the interface, a class, which should be notified about the sections of the validation
+ * pipeline, e.g. in order to make them visible in traces, must implement. Sections are properly
+ * nested per thread. A tracer can be set by using the method {@link
+ * ValidationTracing#setTracer(ValidationTracer)}.
+ * <p>
+ * The methods of a tracer may be invoked on the UI thread, as well as on background threads, e.g.
+ * when asynchronous validators are executed.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public interface ValidationTracer {
+
+    /**
+     * The method, which is invoked, when a section of the validation pipeline begins.
+     *
+     * @param name
+     *         The name of the section as a {@link String}. The name may not be null
+     */
+    void beginSection(@NonNull String name);
+
+    /**
+     * The method, which is invoked, when the most recent section, which has begun on the current
+     * thread, ends.
+     */
+    void endSection();
+
+}
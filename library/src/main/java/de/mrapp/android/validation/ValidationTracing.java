@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Allows to set the {@link ValidationTracer}, which is notified about the sections of the
+ * validation pipeline. Tracing is disabled by default. While it is disabled, the instrumented code
+ * paths only read a single field.
+ * <p>
+ * The following sections are traced: {@link #SECTION_VALIDATE}, {@link #SECTION_VALIDATE_LEFT},
+ * {@link #SECTION_VALIDATE_RIGHT} and {@link #SECTION_APPLY} per view, {@link
+ * #SECTION_PASSWORD_STRENGTH} per {@link PasswordEditText} and a section per validator, which is
+ * named after the validator's class.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public final class ValidationTracing {
+
+    /**
+     * The name of the section, which corresponds to the validation of a view.
+     */
+    public static final String SECTION_VALIDATE = "Validation#validate";
+
+    /**
+     * The name of the section, which corresponds to the validators, whose error messages are shown
+     * at the left edge of a view.
+     */
+    public static final String SECTION_VALIDATE_LEFT = "Validation#validateLeft";
+
+    /**
+     * The name of the section, which corresponds to the validators, whose error messages are shown
+     * at the right edge of a view.
+     */
+    public static final String SECTION_VALIDATE_RIGHT = "Validation#validateRight";
+
+    /**
+     * The name of the section, which corresponds to adapting the appearance of a view depending on
+     * the result of a validation.
+     */
+    public static final String SECTION_APPLY = "Validation#apply";
+
+    /**
+     * The name of the section, which corresponds to the computation of a password's strength.
+     */
+    public static final String SECTION_PASSWORD_STRENGTH = "Validation#passwordStrength";
+
+    /**
+     * The tracer, which is notified about the sections of the validation pipeline, or null, if
+     * tracing is disabled.
+     */
+    private static volatile ValidationTracer tracer;
+
+    /**
+     * Creates a new class, which allows to set the tracer, which is notified about the sections of
+     * the validation pipeline.
+     */
+    private ValidationTracing() {
+
+    }
+
+    /**
+     * Returns the tracer, which is notified about the sections of the validation pipeline.
+     *
+     * @return The tracer, which is notified about the sections of the validation pipeline, as an
+     * instance of the type {@link ValidationTracer} or null, if tracing is disabled
+     */
+    @Nullable
+    public static ValidationTracer getTracer() {
+        return tracer;
+    }
+
+    /**
+     * Sets the tracer, which should be notified about the sections of the validation pipeline.
+     *
+     * @param tracer
+     *         The tracer, which should be set, as an instance of the type {@link ValidationTracer}
+     *         or null, if tracing should be disabled
+     */
+    public static void setTracer(@Nullable final ValidationTracer tracer) {
+        ValidationTracing.tracer = tracer;
+    }
+
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.os.Looper;
+import android.util.Log;
+
+import java.util.Collection;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.util.Condition;
+
+/**
+ * A watchdog, which detects validators, which take longer than a specific budget, when they are
+ * executed by a {@link Validateable} on the UI thread. Similar to the class {@code StrictMode}, a
+ * {@link Policy} specifies the budget and the penalties, which should be applied, if it is
+ * exceeded. The watchdog is disabled by default. While it is disabled, the instrumented code paths
+ * only read a single field.
+ * <p>
+ * Example, which throws an exception in debug builds and logs a warning otherwise:
+ * <pre>
+ * ValidationWatchdog.setPolicy(new ValidationWatchdog.Policy.Builder()
+ *         .setBudgetNanos(2000000L)
+ *         .penaltyLog()
+ *         .penaltyThrow(BuildConfig.DEBUG)
+ *         .build());
+ * </pre>
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public final class ValidationWatchdog {
+
+    /**
+     * Defines the interface, a class, which should be notified, when a validator exceeded the
+     * budget, must implement.
+     */
+    public interface Listener {
+
+        /**
+         * The method, which is invoked, when a validator exceeded the budget. The method is
+         * invoked on the UI thread, right after the validator has been executed.
+         *
+         * @param violation
+         *         The violation, which provides information about the validator, as an instance
+         *         of the class {@link Violation}. The violation may not be null
+         */
+        void onBudgetExceeded(@NonNull Violation violation);
+
+    }
+
+    /**
+     * An exception, which provides information about a validator, which exceeded the budget. It
+     * is thrown, if the penalty {@link Policy.Builder#penaltyThrow(boolean)} is enabled.
+     */
+    public static final class Violation extends RuntimeException {
+
+        /**
+         * The constant serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The class of the validator, which exceeded the budget.
+         */
+        private final Class<?> validatorClass;
+
+        /**
+         * The length of the value, which has been validated.
+         */
+        private final int inputLength;
+
+        /**
+         * The duration of the validator's execution in nanoseconds.
+         */
+        private final long durationNanos;
+
+        /**
+         * The budget in nanoseconds.
+         */
+        private final long budgetNanos;
+
+        /**
+         * Creates a new exception, which provides information about a validator, which exceeded
+         * the budget.
+         *
+         * @param validatorClass
+         *         The class of the validator as an instance of the class {@link Class}. The class
+         *         may not be null
+         * @param inputLength
+         *         The length of the value, which has been validated, as an {@link Integer} value or
+         *         -1, if the value has no length
+         * @param durationNanos
+         *         The duration of the validator's execution in nanoseconds as a {@link Long} value
+         * @param budgetNanos
+         *         The budget in nanoseconds as a {@link Long} value
+         */
+        private Violation(@NonNull final Class<?> validatorClass, final int inputLength,
+                          final long durationNanos, final long budgetNanos) {
+            super(validatorClass.getName() + " took " + durationNanos / 1000 + " us on the UI " +
+                    "thread for an input of length " + inputLength + " (budget: " +
+                    budgetNanos / 1000 + " us)");
+            this.validatorClass = validatorClass;
+            this.inputLength = inputLength;
+            this.durationNanos = durationNanos;
+            this.budgetNanos = budgetNanos;
+        }
+
+        /**
+         * Returns the class of the validator, which exceeded the budget.
+         *
+         * @return The class of the validator, which exceeded the budget, as an instance of the
+         * class {@link Class}
+         */
+        @NonNull
+        public Class<?> getValidatorClass() {
+            return validatorClass;
+        }
+
+        /**
+         * Returns the length of the value, which has been validated. For texts, the number of
+         * characters is returned, for collections, the number of elements.
+         *
+         * @return The length of the value, which has been validated, as an {@link Integer} value
+         * or -1, if the value has no length
+         */
+        public int getInputLength() {
+            return inputLength;
+        }
+
+        /**
+         * Returns the duration of the validator's execution.
+         *
+         * @return The duration of the validator's execution in nanoseconds as a {@link Long}
+         * value
+         */
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        /**
+         * Returns the budget, which has been exceeded.
+         *
+         * @return The budget in nanoseconds as a {@link Long} value
+         */
+        public long getBudgetNanos() {
+            return budgetNanos;
+        }
+
+    }
+
+    /**
+     * Specifies the budget of validators, which are executed on the UI thread, and the penalties,
+     * which are applied, if it is exceeded. Instances can be created by using the class {@link
+     * Builder}.
+     */
+    public static final class Policy {
+
+        /**
+         * A builder, which allows to create instances of the class {@link Policy}.
+         */
+        public static final class Builder {
+
+            /**
+             * The budget in nanoseconds.
+             */
+            private long budgetNanos = DEFAULT_BUDGET_NANOS;
+
+            /**
+             * True, if violations should be logged, false otherwise.
+             */
+            private boolean log;
+
+            /**
+             * True, if an exception should be thrown, false otherwise.
+             */
+            private boolean throwException;
+
+            /**
+             * The listener, which should be notified about violations, or null, if no listener
+             * should be notified.
+             */
+            private Listener listener;
+
+            /**
+             * Sets the budget of a single validator, which is executed on the UI thread. By
+             * default, the budget is 4 milliseconds.
+             *
+             * @param budgetNanos
+             *         The budget, which should be set, in nanoseconds as a {@link Long} value. The
+             *         budget must be at least 1
+             * @return The builder, this method has been called upon, as an instance of the class
+             * {@link Builder}
+             */
+            @NonNull
+            public Builder setBudgetNanos(final long budgetNanos) {
+                Condition.INSTANCE.ensureAtLeast(budgetNanos, 1, "The budget must be at least 1");
+                this.budgetNanos = budgetNanos;
+                return this;
+            }
+
+            /**
+             * Enables logging violations as warnings.
+             *
+             * @return The builder, this method has been called upon, as an instance of the class
+             * {@link Builder}
+             */
+            @NonNull
+            public Builder penaltyLog() {
+                this.log = true;
+                return this;
+            }
+
+            /**
+             * Sets, whether violations should be thrown as exceptions, or not. This is typically
+             * only enabled in debug builds.
+             *
+             * @param throwException
+             *         True, if violations should be thrown as exceptions, false otherwise
+             * @return The builder, this method has been called upon, as an instance of the class
+             * {@link Builder}
+             */
+            @NonNull
+            public Builder penaltyThrow(final boolean throwException) {
+                this.throwException = throwException;
+                return this;
+            }
+
+            /**
+             * Sets a listener, which should be notified about violations.
+             *
+             * @param listener
+             *         The listener, which should be set, as an instance of the type {@link
+             *         Listener}. The listener may not be null
+             * @return The builder, this method has been called upon, as an instance of the class
+             * {@link Builder}
+             */
+            @NonNull
+            public Builder penaltyListener(@NonNull final Listener listener) {
+                Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
+                this.listener = listener;
+                return this;
+            }
+
+            /**
+             * Creates and returns the policy.
+             *
+             * @return The policy, which has been created, as an instance of the class {@link
+             * Policy}
+             */
+            @NonNull
+            public Policy build() {
+                return new Policy(this);
+            }
+
+        }
+
+        /**
+         * The budget in nanoseconds.
+         */
+        private final long budgetNanos;
+
+        /**
+         * True, if violations are logged, false otherwise.
+         */
+        private final boolean log;
+
+        /**
+         * True, if violations are thrown as exceptions, false otherwise.
+         */
+        private final boolean throwException;
+
+        /**
+         * The listener, which is notified about violations, or null, if no listener is notified.
+         */
+        private final Listener listener;
+
+        /**
+         * Creates a new policy.
+         *
+         * @param builder
+         *         The builder, which provides the properties of the policy, as an instance of the
+         *         class {@link Builder}. The builder may not be null
+         */
+        private Policy(@NonNull final Builder builder) {
+            this.budgetNanos = builder.budgetNanos;
+            this.log = builder.log;
+            this.throwException = builder.throwException;
+            this.listener = builder.listener;
+        }
+
+        /**
+         * Returns the budget of a single validator, which is executed on the UI thread.
+         *
+         * @return The budget in nanoseconds as a {@link Long} value
+         */
+        public long getBudgetNanos() {
+            return budgetNanos;
+        }
+
+    }
+
+    /**
+     * The budget, which is used by default, in nanoseconds.
+     */
+    public static final long DEFAULT_BUDGET_NANOS = 4000000L;
+
+    /**
+     * The tag, which is used to log violations.
+     */
+    private static final String TAG = "ValidationWatchdog";
+
+    /**
+     * The policy, which is currently applied, or null, if the watchdog is disabled.
+     */
+    private static volatile Policy policy;
+
+    /**
+     * Creates a new watchdog, which detects validators, which take longer than a specific budget.
+     */
+    private ValidationWatchdog() {
+
+    }
+
+    /**
+     * Returns the length of a specific value.
+     *
+     * @param value
+     *         The value as an instance of the class {@link Object} or null
+     * @return The length of the given value as an {@link Integer} value or -1, if the value has no
+     * length
+     */
+    private static int getLength(@Nullable final Object value) {
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length();
+        } else if (value instanceof Collection) {
+            return ((Collection<?>) value).size();
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the policy, which is currently applied.
+     *
+     * @return The policy, which is currently applied, as an instance of the class {@link Policy}
+     * or null, if the watchdog is disabled
+     */
+    @Nullable
+    public static Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Sets the policy, which should be applied.
+     *
+     * @param policy
+     *         The policy, which should be set, as an instance of the class {@link Policy} or null,
+     *         if the watchdog should be disabled
+     */
+    public static void setPolicy(@Nullable final Policy policy) {
+        ValidationWatchdog.policy = policy;
+    }
+
+    /**
+     * Checks, whether the execution of a specific validator exceeded the budget of a specific
+     * policy and applies the policy's penalties, if necessary. Executions, which did not take
+     * place on the UI thread, are ignored.
+     *
+     * @param policy
+     *         The policy as an instance of the class {@link Policy}. The policy may not be null
+     * @param validator
+     *         The validator, which has been executed, as an instance of the type {@link
+     *         Validator}. The validator may not be null
+     * @param value
+     *         The value, which has been validated, as an instance of the class {@link Object} or
+     *         null
+     * @param durationNanos
+     *         The duration of the validator's execution in nanoseconds as a {@link Long} value
+     */
+    static void check(@NonNull final Policy policy, @NonNull final Validator<?> validator,
+                      @Nullable final Object value, final long durationNanos) {
+        if (durationNanos > policy.budgetNanos && Looper.myLooper() == Looper.getMainLooper()) {
+            Violation violation = new Violation(validator.getClass(), getLength(value),
+                    durationNanos, policy.budgetNanos);
+
+            if (policy.log) {
+                Log.w(TAG, violation.getMessage());
+            }
+
+            if (policy.listener != null) {
+                policy.listener.onBudgetExceeded(violation);
+            }
+
+            if (policy.throwException) {
+                throw violation;
+            }
+        }
+    }
+
+}
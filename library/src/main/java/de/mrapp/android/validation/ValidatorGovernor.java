@@ -0,0 +1,170 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * Tracks the latencies of the synchronous validators of a view in order to decide, which of them
+ * should be demoted, according to an {@link AdaptiveValidationPolicy}.
+ *
+ * @param <ValueType>
+ *         The type of the values, which are validated
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+final class ValidatorGovernor<ValueType> {
+
+    /**
+     * The state of a single validator.
+     */
+    private static final class State {
+
+        /**
+         * True, if the validator is demoted, false otherwise.
+         */
+        private boolean demoted;
+
+        /**
+         * The number of consecutive executions, which exceeded, respectively fell below, the
+         * threshold, which is relevant for the validator's current state.
+         */
+        private int consecutiveExecutions;
+
+    }
+
+    /**
+     * The policy, which is applied.
+     */
+    private final AdaptiveValidationPolicy policy;
+
+    /**
+     * The states of the validators, mapped to the validators.
+     */
+    private final Map<Validator<ValueType>, State> states;
+
+    /**
+     * The number of validators, which are currently demoted.
+     */
+    private int demotedCount;
+
+    /**
+     * Creates a new governor, which applies a specific policy.
+     *
+     * @param policy
+     *         The policy, which should be applied, as an instance of the class {@link
+     *         AdaptiveValidationPolicy}. The policy may not be null
+     */
+    ValidatorGovernor(@NonNull final AdaptiveValidationPolicy policy) {
+        Condition.INSTANCE.ensureNotNull(policy, "The policy may not be null");
+        this.policy = policy;
+        this.states = new IdentityHashMap<>();
+        this.demotedCount = 0;
+    }
+
+    /**
+     * Returns the policy, which is applied.
+     *
+     * @return The policy, which is applied, as an instance of the class {@link
+     * AdaptiveValidationPolicy}
+     */
+    @NonNull
+    AdaptiveValidationPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns, whether any validators are currently demoted, or not.
+     *
+     * @return True, if any validators are currently demoted, false otherwise
+     */
+    boolean hasDemotedValidators() {
+        return demotedCount > 0;
+    }
+
+    /**
+     * Returns, whether a specific validator is currently demoted, or not.
+     *
+     * @param validator
+     *         The validator as an instance of the type {@link Validator}. The validator may not be
+     *         null
+     * @return True, if the given validator is currently demoted, false otherwise
+     */
+    boolean isDemoted(@NonNull final Validator<ValueType> validator) {
+        if (demotedCount == 0) {
+            return false;
+        }
+
+        State state = states.get(validator);
+        return state != null && state.demoted;
+    }
+
+    /**
+     * Records the duration of a single execution of a specific validator and demotes or promotes
+     * the validator, if necessary.
+     *
+     * @param validator
+     *         The validator, which has been executed, as an instance of the type {@link
+     *         Validator}. The validator may not be null
+     * @param nanos
+     *         The duration of the execution in nanoseconds as a {@link Long} value
+     */
+    void record(@NonNull final Validator<ValueType> validator, final long nanos) {
+        State state = states.get(validator);
+
+        if (state == null) {
+            state = new State();
+            states.put(validator, state);
+        }
+
+        boolean relevant = state.demoted ? nanos < policy.getPromotionThresholdNanos() :
+                nanos > policy.getDemotionThresholdNanos();
+
+        if (!relevant) {
+            state.consecutiveExecutions = 0;
+        } else if (++state.consecutiveExecutions >= policy.getConsecutiveExecutions()) {
+            state.demoted = !state.demoted;
+            state.consecutiveExecutions = 0;
+            demotedCount += state.demoted ? 1 : -1;
+        }
+    }
+
+    /**
+     * Discards the state of a specific validator, e.g. because it has been removed from the view.
+     *
+     * @param validator
+     *         The validator as an instance of the type {@link Validator}. The validator may not be
+     *         null
+     */
+    void remove(@NonNull final Validator<ValueType> validator) {
+        State state = states.remove(validator);
+
+        if (state != null && state.demoted) {
+            demotedCount--;
+        }
+    }
+
+    /**
+     * Discards the states of all validators.
+     */
+    void clear() {
+        states.clear();
+        demotedCount = 0;
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import androidx.annotation.NonNull;
+import de.mrapp.android.validation.validators.ConjunctiveValidator;
+import de.mrapp.android.validation.validators.DisjunctiveValidator;
+import de.mrapp.android.validation.validators.NegateValidator;
+import de.mrapp.android.validation.validators.NotNullValidator;
+import de.mrapp.android.validation.validators.misc.DomainNameValidator;
+import de.mrapp.android.validation.validators.misc.EmailAddressValidator;
+import de.mrapp.android.validation.validators.misc.IPv4AddressValidator;
+import de.mrapp.android.validation.validators.misc.IPv6AddressValidator;
+import de.mrapp.android.validation.validators.misc.IRIValidator;
+import de.mrapp.android.validation.validators.misc.PhoneNumberValidator;
+import de.mrapp.android.validation.validators.text.BeginsWithUppercaseLetterValidator;
+import de.mrapp.android.validation.validators.text.LetterOrNumberValidator;
+import de.mrapp.android.validation.validators.text.LetterValidator;
+import de.mrapp.android.validation.validators.text.MaxLengthValidator;
+import de.mrapp.android.validation.validators.text.MinLengthValidator;
+import de.mrapp.android.validation.validators.text.NoWhitespaceValidator;
+import de.mrapp.android.validation.validators.text.NotEmptyValidator;
+import de.mrapp.android.validation.validators.text.NumberValidator;
+import de.mrapp.android.validation.validators.text.RegexValidator;
+
+/**
+ * Computes signatures of validators, which allow to check, whether the validators of a view are
+ * still the same, after the view has been recreated. The signature of a validator covers its
+ * class, its error message and its configuration. The configuration of the built-in validators is
+ * obtained from their getter methods. For all other validators, their method {@link
+ * Object#hashCode()} is used. Therefore, such validators are only considered to be the same, if
+ * they implement the method based on their configuration.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+final class ValidatorSignature {
+
+    /**
+     * The built-in validators, whose configuration is completely specified by their error
+     * messages, respectively by their regular expressions.
+     */
+    private static final Set<Class<?>> CONFIGURATION_FREE_VALIDATORS = new HashSet<>();
+
+    static {
+        CONFIGURATION_FREE_VALIDATORS.add(NotNullValidator.class);
+        CONFIGURATION_FREE_VALIDATORS.add(BeginsWithUppercaseLetterValidator.class);
+        CONFIGURATION_FREE_VALIDATORS.add(NoWhitespaceValidator.class);
+        CONFIGURATION_FREE_VALIDATORS.add(NotEmptyValidator.class);
+        CONFIGURATION_FREE_VALIDATORS.add(RegexValidator.class);
+        CONFIGURATION_FREE_VALIDATORS.add(NumberValidator.class);
+        CONFIGURATION_FREE_VALIDATORS.add(DomainNameValidator.class);
+        CONFIGURATION_FREE_VALIDATORS.add(EmailAddressValidator.class);
+        CONFIGURATION_FREE_VALIDATORS.add(IPv4AddressValidator.class);
+        CONFIGURATION_FREE_VALIDATORS.add(IPv6AddressValidator.class);
+        CONFIGURATION_FREE_VALIDATORS.add(IRIValidator.class);
+        CONFIGURATION_FREE_VALIDATORS.add(PhoneNumberValidator.class);
+    }
+
+    /**
+     * Creates a new class, which computes signatures of validators.
+     */
+    private ValidatorSignature() {
+
+    }
+
+    /**
+     * Returns the signature of the configuration of a specific validator.
+     *
+     * @param validator
+     *         The validator as an instance of the type {@link Validator}. The validator may not be
+     *         null
+     * @return The signature as an {@link Integer} value
+     */
+    private static int getConfigurationSignature(@NonNull final Validator<?> validator) {
+        Class<?> type = validator.getClass();
+
+        if (type == MinLengthValidator.class) {
+            return ((MinLengthValidator) validator).getMinLength();
+        } else if (type == MaxLengthValidator.class) {
+            return ((MaxLengthValidator) validator).getMaxLength();
+        } else if (type == LetterValidator.class) {
+            LetterValidator letterValidator = (LetterValidator) validator;
+            return getSignature(letterValidator.getCaseSensitivity().ordinal(),
+                    letterValidator.areSpacesAllowed(),
+                    letterValidator.getAllowedCharacters());
+        } else if (type == LetterOrNumberValidator.class) {
+            LetterOrNumberValidator letterOrNumberValidator = (LetterOrNumberValidator) validator;
+            return getSignature(letterOrNumberValidator.getCaseSensitivity().ordinal(),
+                    letterOrNumberValidator.areSpacesAllowed(),
+                    letterOrNumberValidator.getAllowedCharacters());
+        } else if (type == ConjunctiveValidator.class) {
+            return compute(Arrays.asList(((ConjunctiveValidator<?>) validator).getValidators()));
+        } else if (type == DisjunctiveValidator.class) {
+            return compute(Arrays.asList(((DisjunctiveValidator<?>) validator).getValidators()));
+        } else if (type == NegateValidator.class) {
+            return compute(((NegateValidator<?>) validator).getValidator());
+        } else if (CONFIGURATION_FREE_VALIDATORS.contains(type)) {
+            if (validator instanceof RegexValidator) {
+                Pattern regex = ((RegexValidator) validator).getRegex();
+                return 31 * regex.pattern().hashCode() + regex.flags();
+            }
+
+            return 0;
+        }
+
+        return validator.hashCode();
+    }
+
+    /**
+     * Returns the signature of the configuration of a validator, which accepts letters.
+     *
+     * @param caseSensitivity
+     *         The ordinal of the validator's case sensitivity as an {@link Integer} value
+     * @param spacesAllowed
+     *         True, if the validator allows spaces, false otherwise
+     * @param allowedCharacters
+     *         An array, which contains the additional characters, which are allowed by the
+     *         validator, as a {@link Character} array. The array may not be null
+     * @return The signature as an {@link Integer} value
+     */
+    private static int getSignature(final int caseSensitivity, final boolean spacesAllowed,
+                                    @NonNull final char[] allowedCharacters) {
+        int signature = caseSensitivity;
+        signature = 31 * signature + (spacesAllowed ? 1 : 0);
+        return 31 * signature + Arrays.hashCode(allowedCharacters);
+    }
+
+    /**
+     * Returns the signature of a specific validator.
+     *
+     * @param validator
+     *         The validator as an instance of the type {@link Validator}. The validator may not be
+     *         null
+     * @return The signature as an {@link Integer} value
+     */
+    static int compute(@NonNull final Validator<?> validator) {
+        CharSequence errorMessage = validator.getErrorMessage();
+        int signature = validator.getClass().getName().hashCode();
+        signature = 31 * signature + (errorMessage != null ? errorMessage.toString().hashCode() : 0);
+        return 31 * signature + getConfigurationSignature(validator);
+    }
+
+    /**
+     * Returns the signature of specific validators, including their order.
+     *
+     * @param validators
+     *         The validators as an instance of the type {@link Iterable}. The validators may not be
+     *         null
+     * @return The signature as an {@link Integer} value
+     */
+    static int compute(@NonNull final Iterable<? extends Validator<?>> validators) {
+        int signature = 1;
+
+        for (Validator<?> validator : validators) {
+            signature = 31 * signature + compute(validator);
+        }
+
+        return signature;
+    }
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * Aggregates the validity of the views of a form. The aggregator keeps track of the number of
+ * views, whose values are not valid, by observing the changes of their validity. This allows to
+ * determine, whether the whole form is valid, e.g. in order to enable a submit button, in constant
+ * time and without validating any views. Views, which have not been validated yet, are considered
+ * as not valid.
+ * <p>
+ * The methods of this class must only be invoked on the UI thread.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public class ValidityAggregator {
+
+    /**
+     * Defines the interface, a class, which should be notified, when the validity of a form has
+     * been changed, must implement.
+     */
+    public interface Listener {
+
+        /**
+         * The method, which is invoked, when the validity of a form has been changed.
+         *
+         * @param aggregator
+         *         The aggregator, which observes the form, as an instance of the class {@link
+         *         ValidityAggregator}. The aggregator may not be null
+         * @param valid
+         *         True, if the values of all views of the form are valid now, false otherwise
+         */
+        void onFormValidityChanged(@NonNull ValidityAggregator aggregator, boolean valid);
+
+    }
+
+    /**
+     * A list, which contains the views of the form.
+     */
+    private final List<Validateable<?>> views;
+
+    /**
+     * The listener, which is registered at the views of the form.
+     */
+    private final ValidityListener<Object> validityListener;
+
+    /**
+     * An array, which contains the listeners, which should be notified, when the validity of the
+     * form has been changed.
+     */
+    private final CopyOnWriteListenerArray<Listener> listeners;
+
+    /**
+     * The number of views, whose values are not valid.
+     */
+    private int invalidCount;
+
+    /**
+     * Creates and returns a listener, which is notified, when the validity of a view of the form
+     * has been changed.
+     *
+     * @return The listener, which has been created, as an instance of the type {@link
+     * ValidityListener}
+     */
+    private ValidityListener<Object> createValidityListener() {
+        return new ValidityListener<Object>() {
+
+            @Override
+            public void onValidityChanged(@NonNull final Validateable<Object> view,
+                                          final boolean valid) {
+                setInvalidCount(valid ? invalidCount - 1 : invalidCount + 1);
+            }
+
+        };
+    }
+
+    /**
+     * Registers the listener, which is notified, when the validity of a view has been changed, at
+     * a specific view.
+     *
+     * @param view
+     *         The view, the listener should be registered at, as an instance of the type {@link
+     *         Validateable}. The view may not be null
+     */
+    @SuppressWarnings("unchecked")
+    private <Type> void registerValidityListener(@NonNull final Validateable<Type> view) {
+        view.addValidityListener((ValidityListener<Type>) (ValidityListener<?>) validityListener);
+    }
+
+    /**
+     * Unregisters the listener, which is notified, when the validity of a view has been changed,
+     * from a specific view.
+     *
+     * @param view
+     *         The view, the listener should be unregistered from, as an instance of the type
+     *         {@link Validateable}. The view may not be null
+     */
+    @SuppressWarnings("unchecked")
+    private <Type> void unregisterValidityListener(@NonNull final Validateable<Type> view) {
+        view.removeValidityListener(
+                (ValidityListener<Type>) (ValidityListener<?>) validityListener);
+    }
+
+    /**
+     * Sets the number of views, whose values are not valid, and notifies the listeners, if the
+     * validity of the form has been changed.
+     *
+     * @param invalidCount
+     *         The number, which should be set, as an {@link Integer} value
+     */
+    private void setInvalidCount(final int invalidCount) {
+        boolean wasValid = this.invalidCount == 0;
+        this.invalidCount = invalidCount;
+        boolean valid = invalidCount == 0;
+
+        if (wasValid != valid) {
+            for (Object listener : listeners.getSnapshot()) {
+                ((Listener) listener).onFormValidityChanged(this, valid);
+            }
+        }
+    }
+
+    /**
+     * Creates a new aggregator, which aggregates the validity of the views of a form.
+     */
+    public ValidityAggregator() {
+        this.views = new ArrayList<>();
+        this.validityListener = createValidityListener();
+        this.listeners = new CopyOnWriteListenerArray<>();
+        this.invalidCount = 0;
+    }
+
+    /**
+     * Adds a new view to the form.
+     *
+     * @param view
+     *         The view, which should be added, as an instance of the type {@link Validateable}.
+     *         The view may not be null
+     */
+    public final void addView(@NonNull final Validateable<?> view) {
+        Condition.INSTANCE.ensureNotNull(view, "The view may not be null");
+
+        if (!views.contains(view)) {
+            views.add(view);
+            registerValidityListener(view);
+
+            if (!view.isValid()) {
+                setInvalidCount(invalidCount + 1);
+            }
+        }
+    }
+
+    /**
+     * Adds all views, which are contained by a specific collection, to the form.
+     *
+     * @param views
+     *         A collection, which contains the views, which should be added, as an instance of
+     *         the type {@link Collection}. The collection may not be null
+     */
+    public final void addAllViews(@NonNull final Collection<? extends Validateable<?>> views) {
+        Condition.INSTANCE.ensureNotNull(views, "The collection may not be null");
+
+        for (Validateable<?> view : views) {
+            addView(view);
+        }
+    }
+
+    /**
+     * Removes a specific view from the form.
+     *
+     * @param view
+     *         The view, which should be removed, as an instance of the type {@link Validateable}.
+     *         The view may not be null
+     */
+    public final void removeView(@NonNull final Validateable<?> view) {
+        Condition.INSTANCE.ensureNotNull(view, "The view may not be null");
+
+        if (views.remove(view)) {
+            unregisterValidityListener(view);
+
+            if (!view.isValid()) {
+                setInvalidCount(invalidCount - 1);
+            }
+        }
+    }
+
+    /**
+     * Removes all views from the form.
+     */
+    public final void removeAllViews() {
+        for (Validateable<?> view : views) {
+            unregisterValidityListener(view);
+        }
+
+        views.clear();
+        setInvalidCount(0);
+    }
+
+    /**
+     * Returns the views of the form.
+     *
+     * @return An unmodifiable collection, which contains the views of the form, as an instance of
+     * the type {@link Collection}
+     */
+    @NonNull
+    public final Collection<Validateable<?>> getViews() {
+        return Collections.unmodifiableList(views);
+    }
+
+    /**
+     * Returns the number of views, whose values are not valid.
+     *
+     * @return The number of views, whose values are not valid, as an {@link Integer} value
+     */
+    public final int getInvalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * Returns, whether the values of all views of the form are valid, or not.
+     *
+     * @return True, if the values of all views of the form are valid, false otherwise
+     */
+    public final boolean isFormValid() {
+        return invalidCount == 0;
+    }
+
+    /**
+     * Adds a new listener, which should be notified, when the validity of the form has been
+     * changed.
+     *
+     * @param listener
+     *         The listener, which should be added, as an instance of the type {@link Listener}.
+     *         The listener may not be null
+     */
+    public final void addListener(@NonNull final Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a specific listener, which should not be notified, when the validity of the form has
+     * been changed, anymore.
+     *
+     * @param listener
+     *         The listener, which should be removed, as an instance of the type {@link Listener}.
+     *         The listener may not be null
+     */
+    public final void removeListener(@NonNull final Listener listener) {
+        listeners.remove(listener);
+    }
+
+}
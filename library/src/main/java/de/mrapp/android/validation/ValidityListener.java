@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Defines the interface, a class, which should be notified, when the validity of a view has been
+ * changed, must implement. Unlike a {@link ValidationListener}, it is not notified about each
+ * validation, but only when a valid value becomes invalid, or vice versa.
+ *
+ * @param <Type>
+ *         The type of the values, which should be validated
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public interface ValidityListener<Type> {
+
+    /**
+     * The method, which is invoked, when the validity of a view has been changed.
+     *
+     * @param view
+     *         The view, whose validity has been changed, as an instance of the type {@link
+     *         Validateable}
+     * @param valid
+     *         True, if the value of the view is valid now, false otherwise
+     */
+    void onValidityChanged(@NonNull Validateable<Type> view, boolean valid);
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.adapter;
+
+import java.util.List;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Defines the interface, a class, which provides the items of a {@link PagedSpinnerAdapter} page by
+ * page, must implement. This allows to display very large sets of items without loading all of
+ * them up front.
+ *
+ * @param <ItemType>
+ *         The type of the items
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public interface PagedDataSource<ItemType> {
+
+    /**
+     * Returns the total number of items. This method is invoked on the UI thread and should
+     * therefore return immediately.
+     *
+     * @return The total number of items as an {@link Integer} value
+     */
+    int getCount();
+
+    /**
+     * Loads a specific page of items. This method is invoked on a background thread.
+     *
+     * @param offset
+     *         The position of the first item, which should be loaded, as an {@link Integer} value
+     * @param size
+     *         The maximum number of items, which should be loaded, as an {@link Integer} value
+     * @return A list, which contains the items, which have been loaded, as an instance of the type
+     * {@link List}. The list may not be null
+     */
+    @NonNull
+    List<ItemType> loadPage(int offset, int size);
+
+    /**
+     * Returns the text, which should be used to display a specific item and to search for it.
+     * This method may be invoked on the UI thread, as well as on a background thread.
+     *
+     * @param item
+     *         The item, whose text should be returned, as an instance of the generic type
+     *         ItemType. The item may not be null
+     * @return The text of the given item as an instance of the type {@link CharSequence}. The text
+     * may not be null
+     */
+    @NonNull
+    CharSequence getText(@NonNull ItemType item);
+
+}
@@ -0,0 +1,673 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.adapter;
+
+import android.content.Context;
+import android.text.TextUtils;
+import android.util.Log;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.BaseAdapter;
+import android.widget.TextView;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.android.validation.AsyncValidationExecutor;
+import de.mrapp.android.validation.R;
+import de.mrapp.util.Condition;
+
+/**
+ * A spinner adapter, which loads its items page by page from a {@link PagedDataSource}. Only a
+ * limited number of pages is kept in memory. Pages, which are not available, are loaded on a
+ * background thread, while the corresponding items are displayed as empty rows.
+ * <p>
+ * The items can be filtered by a query in order to only show items, whose texts start with the
+ * query, regardless of their case. When a query is set for the first time, the texts of all items
+ * are loaded on a background thread in order to build a sorted prefix index. Afterwards, a query is
+ * applied in logarithmic time. The matching items are shown in alphabetical order. Until the index
+ * has been built, all items are shown.
+ * <p>
+ * The page, which contains the selected item, can be pinned by using the method {@link
+ * #pinItem(int)}. A pinned page is never discarded in favor of other pages, so the selected item
+ * remains available while other items are scrolled through. If the query is changed, the position
+ * of the pinned item can be obtained by using the method {@link #getPinnedPosition()}.
+ * <p>
+ * If the data source fails to load a page, the failure is logged and the page is loaded again
+ * the next time one of its items is requested.
+ * <p>
+ * The methods of this class must only be invoked on the UI thread.
+ *
+ * @param <ItemType>
+ *         The type of the adapter's items
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public class PagedSpinnerAdapter<ItemType> extends BaseAdapter {
+
+    /**
+     * The number of items per page, which is used by default.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * The maximum number of pages, which are kept in memory.
+     */
+    private static final int MAX_CACHED_PAGES = 16;
+
+    /**
+     * The tag, which is used to log failures of the data source.
+     */
+    private static final String TAG = "PagedSpinnerAdapter";
+
+    /**
+     * The context, which is used by the adapter.
+     */
+    private final Context context;
+
+    /**
+     * The data source, which provides the adapter's items.
+     */
+    private final PagedDataSource<ItemType> dataSource;
+
+    /**
+     * The number of items per page.
+     */
+    private final int pageSize;
+
+    /**
+     * The pages, which have been loaded, mapped to their indices in the order of their last
+     * access.
+     */
+    private final Map<Integer, List<ItemType>> pages;
+
+    /**
+     * A set, which contains the indices of the pages, which are currently loaded.
+     */
+    private final Set<Integer> loadingPages;
+
+    /**
+     * An array, which contains the start (inclusive) and end (exclusive) of the range of the
+     * prefix index, which corresponds to the items, which match the query.
+     */
+    private final int[] range;
+
+    /**
+     * The executor, which is used to load pages and to build the prefix index.
+     */
+    private Executor executor;
+
+    /**
+     * The resource id of the layout, which is used to display the items.
+     */
+    private final int viewResourceId;
+
+    /**
+     * The resource id of the layout, which is used to display the items in the drop down list.
+     */
+    private int dropDownViewResourceId;
+
+    /**
+     * The total number of items.
+     */
+    private int count;
+
+    /**
+     * The generation of the adapter's data, which is increased, when the data is refreshed, in
+     * order to discard the results of background tasks, which have been started before.
+     */
+    private int generation;
+
+    /**
+     * The normalized query, which is used to filter the items.
+     */
+    private String query;
+
+    /**
+     * The prefix index or null, if it has not been built yet.
+     */
+    private PrefixIndex index;
+
+    /**
+     * True, if the prefix index is currently built, false otherwise.
+     */
+    private boolean indexing;
+
+    /**
+     * The position of the pinned item within the data source or -1, if no item is pinned.
+     */
+    private int pinnedSourcePosition;
+
+    /**
+     * The position of the pinned item within the adapter or -1, if no item is pinned or if it is
+     * not shown due to the current query.
+     */
+    private int pinnedPosition;
+
+    /**
+     * The items of the page, which contains the pinned item, or null, if no item is pinned or if
+     * the page has not been loaded yet.
+     */
+    private List<ItemType> pinnedItems;
+
+    /**
+     * A counter, which is incremented, whenever the positions of the items are changed.
+     */
+    private int positionsVersion;
+
+    /**
+     * Returns the index of the page, which contains the pinned item.
+     *
+     * @return The index of the page, which contains the pinned item, as an {@link Integer} value
+     * or -1, if no item is pinned
+     */
+    private int getPinnedPage() {
+        return pinnedSourcePosition >= 0 ? pinnedSourcePosition / pageSize : -1;
+    }
+
+    /**
+     * Updates the position of the pinned item within the adapter, e.g. because the query has been
+     * changed.
+     */
+    private void updatePinnedPosition() {
+        if (pinnedSourcePosition < 0 || pinnedSourcePosition >= count) {
+            pinnedPosition = -1;
+        } else if (isFiltered()) {
+            int pinnedIndex = pinnedSourcePosition < index.size() ?
+                    index.getIndex(pinnedSourcePosition) : -1;
+            pinnedPosition = pinnedIndex >= range[0] && pinnedIndex < range[1] ?
+                    pinnedIndex - range[0] : -1;
+        } else {
+            pinnedPosition = pinnedSourcePosition;
+        }
+    }
+
+    /**
+     * Returns, whether the items are currently filtered, or not.
+     *
+     * @return True, if the items are currently filtered, false otherwise
+     */
+    private boolean isFiltered() {
+        return index != null && !query.isEmpty();
+    }
+
+    /**
+     * Applies the current query to the prefix index.
+     */
+    private void applyQuery() {
+        if (isFiltered()) {
+            index.search(query, range);
+        }
+
+        positionsVersion++;
+        updatePinnedPosition();
+    }
+
+    /**
+     * Loads a specific page on a background thread, if it is not already loaded.
+     *
+     * @param page
+     *         The index of the page, which should be loaded, as an {@link Integer} value
+     */
+    private void loadPage(final int page) {
+        if (loadingPages.add(page)) {
+            final int currentGeneration = generation;
+            executor.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    List<ItemType> loadedItems;
+
+                    try {
+                        loadedItems = dataSource.loadPage(page * pageSize, pageSize);
+                    } catch (RuntimeException e) {
+                        Log.w(TAG, "Failed to load page " + page, e);
+                        loadedItems = null;
+                    }
+
+                    final List<ItemType> items = loadedItems;
+                    AsyncValidationExecutor.getInstance().postToMainThread(new Runnable() {
+
+                        @Override
+                        public void run() {
+                            if (currentGeneration == generation) {
+                                loadingPages.remove(page);
+
+                                if (items != null) {
+                                    pages.put(page, items);
+
+                                    if (page == getPinnedPage()) {
+                                        pinnedItems = items;
+                                    }
+
+                                    notifyDataSetChanged();
+                                }
+                            }
+                        }
+
+                    });
+                }
+
+            });
+        }
+    }
+
+    /**
+     * Builds the prefix index on a background thread, if it is not already built.
+     */
+    private void buildIndex() {
+        if (index == null && !indexing) {
+            indexing = true;
+            final int currentGeneration = generation;
+            final int totalCount = count;
+            executor.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    String[] texts = new String[totalCount];
+                    int loaded = 0;
+                    PrefixIndex builtIndex;
+
+                    try {
+                        while (loaded < totalCount) {
+                            List<ItemType> items = dataSource.loadPage(loaded, pageSize);
+
+                            if (items.isEmpty()) {
+                                break;
+                            }
+
+                            for (int i = 0; i < items.size() && loaded < totalCount; i++) {
+                                texts[loaded++] = dataSource.getText(items.get(i)).toString();
+                            }
+                        }
+
+                        for (int i = loaded; i < totalCount; i++) {
+                            texts[i] = "";
+                        }
+
+                        builtIndex = new PrefixIndex(texts);
+                    } catch (RuntimeException e) {
+                        Log.w(TAG, "Failed to build the prefix index", e);
+                        builtIndex = null;
+                    }
+
+                    final PrefixIndex prefixIndex = builtIndex;
+                    AsyncValidationExecutor.getInstance().postToMainThread(new Runnable() {
+
+                        @Override
+                        public void run() {
+                            if (currentGeneration == generation) {
+                                indexing = false;
+                                index = prefixIndex;
+
+                                if (prefixIndex != null && !query.isEmpty()) {
+                                    applyQuery();
+                                    notifyDataSetChanged();
+                                }
+                            }
+                        }
+
+                    });
+                }
+
+            });
+        }
+    }
+
+    /**
+     * Returns the view, which is used to display a specific item.
+     *
+     * @param position
+     *         The position of the item as an {@link Integer} value
+     * @param convertView
+     *         The view, which should be reused, as an instance of the class {@link View} or null,
+     *         if no view should be reused
+     * @param parent
+     *         The parent of the view as an instance of the class {@link ViewGroup}
+     * @param resourceId
+     *         The resource id of the layout, which should be inflated, if no view can be reused, as
+     *         an {@link Integer} value
+     * @return The view, which is used to display the item, as an instance of the class {@link
+     * View}
+     */
+    private View getView(final int position, @Nullable final View convertView,
+                         @Nullable final ViewGroup parent, @LayoutRes final int resourceId) {
+        TextView view = (TextView) convertView;
+
+        if (view == null) {
+            view = (TextView) LayoutInflater.from(context).inflate(resourceId, parent, false);
+        }
+
+        ItemType item = getItem(position);
+        view.setText(item != null ? dataSource.getText(item) : null);
+        return view;
+    }
+
+    /**
+     * Creates a new spinner adapter, which loads its items page by page from a specific data
+     * source. The default page size is used.
+     *
+     * @param context
+     *         The context, which should be used by the adapter, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param dataSource
+     *         The data source, which provides the adapter's items, as an instance of the type
+     *         {@link PagedDataSource}. The data source may not be null
+     */
+    public PagedSpinnerAdapter(@NonNull final Context context,
+                               @NonNull final PagedDataSource<ItemType> dataSource) {
+        this(context, dataSource, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Creates a new spinner adapter, which loads its items page by page from a specific data
+     * source.
+     *
+     * @param context
+     *         The context, which should be used by the adapter, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param dataSource
+     *         The data source, which provides the adapter's items, as an instance of the type
+     *         {@link PagedDataSource}. The data source may not be null
+     * @param pageSize
+     *         The number of items per page as an {@link Integer} value. The number of items must
+     *         be at least 1
+     */
+    public PagedSpinnerAdapter(@NonNull final Context context,
+                               @NonNull final PagedDataSource<ItemType> dataSource,
+                               final int pageSize) {
+        Condition.INSTANCE.ensureNotNull(context, "The context may not be null");
+        Condition.INSTANCE.ensureNotNull(dataSource, "The data source may not be null");
+        Condition.INSTANCE.ensureAtLeast(pageSize, 1, "The page size must be at least 1");
+        this.context = context;
+        this.dataSource = dataSource;
+        this.pageSize = pageSize;
+        this.pages = new LinkedHashMap<Integer, List<ItemType>>(MAX_CACHED_PAGES, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, List<ItemType>> eldest) {
+                return size() > MAX_CACHED_PAGES;
+            }
+
+        };
+        this.loadingPages = new HashSet<>();
+        this.range = new int[2];
+        this.executor = AsyncValidationExecutor.getInstance();
+        this.viewResourceId = R.layout.spinner_item;
+        this.dropDownViewResourceId = android.R.layout.simple_spinner_dropdown_item;
+        this.count = dataSource.getCount();
+        this.generation = 0;
+        this.query = "";
+        this.index = null;
+        this.indexing = false;
+        this.pinnedSourcePosition = -1;
+        this.pinnedPosition = -1;
+        this.pinnedItems = null;
+        this.positionsVersion = 0;
+    }
+
+    /**
+     * Returns the data source, which provides the adapter's items.
+     *
+     * @return The data source, which provides the adapter's items, as an instance of the type
+     * {@link PagedDataSource}
+     */
+    @NonNull
+    public final PagedDataSource<ItemType> getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Returns the number of items per page.
+     *
+     * @return The number of items per page as an {@link Integer} value
+     */
+    public final int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns the executor, which is used to load pages and to build the prefix index.
+     *
+     * @return The executor, which is used to load pages and to build the prefix index, as an
+     * instance of the type {@link Executor}
+     */
+    @NonNull
+    public final Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor, which should be used to load pages and to build the prefix index.
+     *
+     * @param executor
+     *         The executor, which should be set, as an instance of the type {@link Executor}. The
+     *         executor may not be null
+     */
+    public final void setExecutor(@NonNull final Executor executor) {
+        Condition.INSTANCE.ensureNotNull(executor, "The executor may not be null");
+        this.executor = executor;
+    }
+
+    /**
+     * Sets the layout resource, which should be used to display the items in the drop down list.
+     * The layout's root view must be a {@link TextView}.
+     *
+     * @param resourceId
+     *         The resource id of the layout, which should be set, as an {@link Integer} value. The
+     *         resource id must correspond to a valid layout resource
+     */
+    public final void setDropDownViewResource(@LayoutRes final int resourceId) {
+        this.dropDownViewResourceId = resourceId;
+    }
+
+    /**
+     * Returns the query, which is used to filter the items.
+     *
+     * @return The query, which is used to filter the items, as a {@link String}. If the items are
+     * not filtered, an empty string is returned
+     */
+    @NonNull
+    public final String getQuery() {
+        return query;
+    }
+
+    /**
+     * Sets the query, which should be used to filter the items. Only items, whose texts start with
+     * the query, regardless of their case, are shown. As the positions of the items are changed,
+     * the new position of the pinned item should be obtained by using the method {@link
+     * #getPinnedPosition()} afterwards.
+     *
+     * @param query
+     *         The query, which should be set, as an instance of the type {@link CharSequence} or
+     *         null, if the items should not be filtered
+     */
+    public final void setQuery(@Nullable final CharSequence query) {
+        String normalizedQuery = TextUtils.isEmpty(query) ? "" : PrefixIndex.normalize(query);
+
+        if (!this.query.equals(normalizedQuery)) {
+            this.query = normalizedQuery;
+
+            if (!normalizedQuery.isEmpty()) {
+                buildIndex();
+            }
+
+            applyQuery();
+            notifyDataSetChanged();
+        }
+    }
+
+    /**
+     * Returns, whether the prefix index, which is used to filter the items, has been built, or
+     * not.
+     *
+     * @return True, if the prefix index has been built, false otherwise
+     */
+    public final boolean isIndexBuilt() {
+        return index != null;
+    }
+
+    /**
+     * Discards all loaded pages and the prefix index, e.g. because the data source's items have
+     * been changed.
+     */
+    public final void refresh() {
+        generation++;
+        count = dataSource.getCount();
+        pages.clear();
+        loadingPages.clear();
+        index = null;
+        indexing = false;
+        pinnedItems = null;
+        positionsVersion++;
+        updatePinnedPosition();
+
+        if (pinnedPosition == -1) {
+            pinnedSourcePosition = -1;
+        } else {
+            loadPage(getPinnedPage());
+        }
+
+        if (!query.isEmpty()) {
+            buildIndex();
+        }
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Returns a counter, which is incremented, whenever the items, which correspond to the
+     * adapter's positions, may have been changed, e.g. because the query has been changed or
+     * because the data has been refreshed. Loading a page only provides items, which have not been
+     * available before, and therefore does not increment the counter.
+     *
+     * @return The counter as an {@link Integer} value
+     */
+    public final int getPositionsVersion() {
+        return positionsVersion;
+    }
+
+    /**
+     * Pins the item at a specific position. The page, which contains the pinned item, is kept in
+     * memory, regardless of how many other pages are loaded. If the page has not been loaded yet,
+     * it is loaded on a background thread. Only a single item can be pinned at once.
+     *
+     * @param position
+     *         The position of the item, which should be pinned, within the adapter as an {@link
+     *         Integer} value or -1, if no item should be pinned
+     */
+    public final void pinItem(final int position) {
+        if (position < 0 || position >= getCount()) {
+            pinnedSourcePosition = -1;
+            pinnedPosition = -1;
+            pinnedItems = null;
+        } else {
+            int previousPage = getPinnedPage();
+            pinnedSourcePosition = getSourcePosition(position);
+            pinnedPosition = position;
+            int page = getPinnedPage();
+
+            if (page != previousPage || pinnedItems == null) {
+                pinnedItems = pages.get(page);
+
+                if (pinnedItems == null) {
+                    loadPage(page);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the position of the pinned item within the adapter.
+     *
+     * @return The position of the pinned item within the adapter as an {@link Integer} value or
+     * -1, if no item is pinned or if the pinned item is not shown due to the current query
+     */
+    public final int getPinnedPosition() {
+        return pinnedPosition;
+    }
+
+    /**
+     * Returns the position of a specific item within the data source.
+     *
+     * @param position
+     *         The position of the item within the adapter as an {@link Integer} value
+     * @return The position of the item within the data source as an {@link Integer} value
+     */
+    public final int getSourcePosition(final int position) {
+        return isFiltered() ? index.getPosition(range[0] + position) : position;
+    }
+
+    @Override
+    public final int getCount() {
+        return isFiltered() ? range[1] - range[0] : count;
+    }
+
+    /**
+     * Returns the item, which corresponds to a specific position. If the page, which contains the
+     * item, has not been loaded yet, it is loaded on a background thread. The pinned item is
+     * always returned, once its page has been loaded.
+     *
+     * @param position
+     *         The position of the item as an {@link Integer} value
+     * @return The item, which corresponds to the given position, as an instance of the generic
+     * type ItemType or null, if the item has not been loaded yet
+     */
+    @Nullable
+    @Override
+    public final ItemType getItem(final int position) {
+        int sourcePosition = getSourcePosition(position);
+        int page = sourcePosition / pageSize;
+        int offset = sourcePosition % pageSize;
+        List<ItemType> items =
+                page == getPinnedPage() && pinnedItems != null ? pinnedItems : pages.get(page);
+
+        if (items == null) {
+            loadPage(page);
+            return null;
+        }
+
+        return offset < items.size() ? items.get(offset) : null;
+    }
+
+    @Override
+    public final long getItemId(final int position) {
+        return getSourcePosition(position);
+    }
+
+    @Override
+    public final boolean hasStableIds() {
+        return true;
+    }
+
+    @Override
+    public final View getView(final int position, final View convertView, final ViewGroup parent) {
+        return getView(position, convertView, parent, viewResourceId);
+    }
+
+    @Override
+    public final View getDropDownView(final int position, final View convertView,
+                                      final ViewGroup parent) {
+        return getView(position, convertView, parent, dropDownViewResourceId);
+    }
+
+}
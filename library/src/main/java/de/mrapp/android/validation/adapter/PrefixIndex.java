@@ -0,0 +1,207 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.adapter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * An immutable index, which allows to find the items, whose texts start with a specific prefix.
+ * The normalized texts are stored in a sorted array. Therefore, the items, which match a prefix,
+ * form a contiguous range, which is found by using binary search in logarithmic time.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+final class PrefixIndex {
+
+    /**
+     * The sorted, normalized texts of the items.
+     */
+    private final String[] keys;
+
+    /**
+     * The positions of the items, which correspond to the sorted texts.
+     */
+    private final int[] positions;
+
+    /**
+     * The indices of the sorted texts, which correspond to the positions of the items.
+     */
+    private final int[] indices;
+
+    /**
+     * Normalizes a specific text in order to compare it to other texts regardless of their case.
+     *
+     * @param text
+     *         The text, which should be normalized, as an instance of the type {@link
+     *         CharSequence}. The text may not be null
+     * @return The normalized text as a {@link String}
+     */
+    @NonNull
+    static String normalize(@NonNull final CharSequence text) {
+        return text.toString().toLowerCase(Locale.getDefault());
+    }
+
+    /**
+     * Returns the index of the first key, which is not less than a specific prefix.
+     *
+     * @param prefix
+     *         The prefix as a {@link String}. The prefix may not be null
+     * @return The index of the first key, which is not less than the given prefix, as an {@link
+     * Integer} value
+     */
+    private int lowerBound(@NonNull final String prefix) {
+        int low = 0;
+        int high = keys.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (keys[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the index of the first key, starting at a specific index, which does not start with
+     * a specific prefix.
+     *
+     * @param prefix
+     *         The prefix as a {@link String}. The prefix may not be null
+     * @param start
+     *         The index, the search should start at, as an {@link Integer} value
+     * @return The index of the first key, which does not start with the given prefix, as an
+     * {@link Integer} value
+     */
+    private int upperBound(@NonNull final String prefix, final int start) {
+        int low = start;
+        int high = keys.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (keys[middle].startsWith(prefix)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Creates a new index, which allows to find the items, whose texts start with a specific
+     * prefix.
+     *
+     * @param texts
+     *         An array, which contains the texts of the items, as a {@link String} array. The
+     *         array may not be null
+     */
+    PrefixIndex(@NonNull final String[] texts) {
+        Condition.INSTANCE.ensureNotNull(texts, "The array may not be null");
+        Integer[] order = new Integer[texts.length];
+
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+
+        final String[] normalizedTexts = new String[texts.length];
+
+        for (int i = 0; i < texts.length; i++) {
+            normalizedTexts[i] = normalize(texts[i]);
+        }
+
+        Arrays.sort(order, new Comparator<Integer>() {
+
+            @Override
+            public int compare(final Integer lhs, final Integer rhs) {
+                return normalizedTexts[lhs].compareTo(normalizedTexts[rhs]);
+            }
+
+        });
+
+        this.keys = new String[order.length];
+        this.positions = new int[order.length];
+        this.indices = new int[order.length];
+
+        for (int i = 0; i < order.length; i++) {
+            keys[i] = normalizedTexts[order[i]];
+            positions[i] = order[i];
+            indices[order[i]] = i;
+        }
+    }
+
+    /**
+     * Returns the number of items, which are contained by the index.
+     *
+     * @return The number of items as an {@link Integer} value
+     */
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the position of the item, which corresponds to a specific index.
+     *
+     * @param index
+     *         The index as an {@link Integer} value
+     * @return The position of the item, which corresponds to the given index, as an {@link
+     * Integer} value
+     */
+    int getPosition(final int index) {
+        return positions[index];
+    }
+
+    /**
+     * Returns the index, which corresponds to the item at a specific position. This is the inverse
+     * of the method {@link #getPosition(int)}.
+     *
+     * @param position
+     *         The position of the item as an {@link Integer} value
+     * @return The index, which corresponds to the item at the given position, as an {@link
+     * Integer} value
+     */
+    int getIndex(final int position) {
+        return indices[position];
+    }
+
+    /**
+     * Searches for the items, whose texts start with a specific prefix. The prefix must have been
+     * normalized by using the method {@link #normalize(CharSequence)}.
+     *
+     * @param prefix
+     *         The normalized prefix as a {@link String}. The prefix may not be null
+     * @param range
+     *         The array, the start (inclusive) and end (exclusive) of the range of indices, which
+     *         correspond to the matching items, should be stored in, as an {@link Integer} array.
+     *         The array must have a length of 2
+     */
+    void search(@NonNull final String prefix, @NonNull final int[] range) {
+        int start = lowerBound(prefix);
+        range[0] = start;
+        range[1] = upperBound(prefix, start);
+    }
+
+}
@@ -31,12 +31,47 @@ import de.mrapp.util.Condition;
 /**
  * A spinner adapter, which acts as a proxy for an other adapter in order to initially show a hint
  * instead of the adapter's first item.
+ * <p>
+ * Views are recycled. As spinners only support a single view type, views, which are passed to the
+ * methods {@link #getView(int, View, ViewGroup)} and {@link #getDropDownView(int, View, ViewGroup)}
+ * in order to be recycled, are only passed to the adapter, if they have been created by the
+ * adapter. Views, which are used to display the hint, are only reused for the hint.
  *
  * @author Michael Rapp
  * @since 1.0.0
  */
 public class ProxySpinnerAdapter implements SpinnerAdapter, ListAdapter {
 
+    /**
+     * Defines the interface, a class, which decides whether the items of the adapter, which
+     * contains the actual items, are enabled, must implement.
+     */
+    public interface ItemFilter {
+
+        /**
+         * Returns, whether the item at a specific position is enabled, or not. Items, which are
+         * not enabled, cannot be selected and are displayed as disabled in the drop down list.
+         *
+         * @param position
+         *         The position of the item within the adapter, which contains the actual items, as
+         *         an {@link Integer} value
+         * @return True, if the item is enabled, false otherwise
+         */
+        boolean isEnabled(int position);
+
+    }
+
+    /**
+     * The tag, which is used to identify the views, which are used to display the hint.
+     */
+    private static final Object HINT_VIEW_TAG = new Object();
+
+    /**
+     * The tag, which is used to identify the empty views, which are used instead of the hint in
+     * the drop down list.
+     */
+    private static final Object DROP_DOWN_HINT_VIEW_TAG = new Object();
+
     /**
      * The context, which is used by the adapter.
      */
@@ -62,6 +97,11 @@ public class ProxySpinnerAdapter implements SpinnerAdapter, ListAdapter {
      */
     private final ColorStateList hintColor;
 
+    /**
+     * The filter, which decides whether the items are enabled, or null, if all items are enabled.
+     */
+    private ItemFilter itemFilter;
+
     /**
      * Inflates and returns the view, which is used to display the hint.
      *
@@ -72,6 +112,7 @@ public class ProxySpinnerAdapter implements SpinnerAdapter, ListAdapter {
      */
     private View inflateHintView(@Nullable final ViewGroup parent) {
         TextView view = (TextView) LayoutInflater.from(context).inflate(hintViewId, parent, false);
+        view.setTag(HINT_VIEW_TAG);
         view.setText(hint);
 
         if (hintColor != null) {
@@ -81,6 +122,28 @@ public class ProxySpinnerAdapter implements SpinnerAdapter, ListAdapter {
         return view;
     }
 
+    /**
+     * Returns, whether a specific view has been created by the adapter, which contains the actual
+     * items, and can therefore be passed to the adapter in order to be recycled, or not. As only a
+     * single view type is reported, views can only be recycled, if the adapter, which contains the
+     * actual items, uses a single view type as well.
+     *
+     * @param convertView
+     *         The view, which should be checked, as an instance of the class {@link View} or null
+     * @return The given view or null, if the view has not been created by the adapter, which
+     * contains the actual items, or if the adapter uses multiple view types
+     */
+    @Nullable
+    private View getRecyclableItemView(@Nullable final View convertView) {
+        if (convertView == null || convertView.getTag() == HINT_VIEW_TAG ||
+                convertView.getTag() == DROP_DOWN_HINT_VIEW_TAG ||
+                adapter.getViewTypeCount() != 1) {
+            return null;
+        }
+
+        return convertView;
+    }
+
     /**
      * Creates a new spinner adapter, which acts as a proxy for an other adapter in order to
      * initially show a hint instead of the adapter's first item.
@@ -112,6 +175,7 @@ public class ProxySpinnerAdapter implements SpinnerAdapter, ListAdapter {
         this.hintViewId = hintViewId;
         this.hint = hint;
         this.hintColor = hintColor;
+        this.itemFilter = null;
     }
 
     /**
@@ -124,23 +188,56 @@ public class ProxySpinnerAdapter implements SpinnerAdapter, ListAdapter {
         return adapter;
     }
 
+    /**
+     * Returns the filter, which decides whether the items are enabled.
+     *
+     * @return The filter, which decides whether the items are enabled, as an instance of the type
+     * {@link ItemFilter} or null, if all items are enabled
+     */
+    @Nullable
+    public final ItemFilter getItemFilter() {
+        return itemFilter;
+    }
+
+    /**
+     * Sets the filter, which should decide whether the items are enabled.
+     *
+     * @param itemFilter
+     *         The filter, which should be set, as an instance of the type {@link ItemFilter} or
+     *         null, if all items should be enabled
+     */
+    public final void setItemFilter(@Nullable final ItemFilter itemFilter) {
+        this.itemFilter = itemFilter;
+    }
+
     @Override
     public final View getView(final int position, final View convertView, final ViewGroup parent) {
         if (position == 0) {
-            return inflateHintView(parent);
+            return convertView != null && convertView.getTag() == HINT_VIEW_TAG ? convertView :
+                    inflateHintView(parent);
         }
 
-        return adapter.getView(position - 1, null, parent);
+        return adapter.getView(position - 1, getRecyclableItemView(convertView), parent);
     }
 
     @Override
     public final View getDropDownView(final int position, final View convertView,
                                       final ViewGroup parent) {
         if (position == 0) {
-            return new View(context);
+            if (convertView != null && convertView.getTag() == DROP_DOWN_HINT_VIEW_TAG) {
+                return convertView;
+            }
+
+            View view = new View(context);
+            view.setTag(DROP_DOWN_HINT_VIEW_TAG);
+            return view;
         }
 
-        return adapter.getDropDownView(position - 1, null, parent);
+        View view =
+                adapter.getDropDownView(position - 1, getRecyclableItemView(convertView), parent);
+
+        view.setEnabled(itemFilter == null || itemFilter.isEnabled(position - 1));
+        return view;
     }
 
     @Override
@@ -195,7 +292,7 @@ public class ProxySpinnerAdapter implements SpinnerAdapter, ListAdapter {
 
     @Override
     public final boolean isEnabled(final int position) {
-        return position > 0;
+        return position > 0 && (itemFilter == null || itemFilter.isEnabled(position - 1));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.constraints.text;
+
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * A read-only word list, which is stored as a minimized trie (DAWG) in a binary buffer. Nodes are
+ * read directly from the buffer, which is memory-mapped, if possible. Therefore, the word list
+ * neither needs to be parsed, nor copied to the heap.
+ * <p>
+ * All values are stored in big-endian byte order. The buffer starts with a header, which consists
+ * of the magic number <code>0x50574447</code>, the format version (1), the number of nodes and the
+ * offset of the root node, each stored as a 32 bit integer. Each node consists of a byte, whose
+ * lowest bit specifies whether the node terminates a word, a byte, which specifies the number of
+ * children, and the children, sorted by their characters. Each child is stored as a 16 bit
+ * character, followed by the 32 bit offset of the corresponding node.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+final class CompactDictionary {
+
+    /**
+     * The magic number, a buffer, which contains a word list, must start with.
+     */
+    private static final int MAGIC_NUMBER = 0x50574447;
+
+    /**
+     * The version of the format, which is supported.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The size of the header in bytes.
+     */
+    private static final int HEADER_SIZE = 16;
+
+    /**
+     * The size of the fixed part of a node in bytes.
+     */
+    private static final int NODE_SIZE = 2;
+
+    /**
+     * The size of a child entry in bytes.
+     */
+    private static final int CHILD_SIZE = 6;
+
+    /**
+     * The buffer, which contains the word list.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The offset of the root node.
+     */
+    private final int root;
+
+    /**
+     * Maps a specific asset into memory. If the asset is compressed and therefore cannot be
+     * mapped, it is read into a direct buffer instead.
+     *
+     * @param assetManager
+     *         The asset manager, which should be used to open the asset, as an instance of the
+     *         class {@link AssetManager}. The asset manager may not be null
+     * @param assetName
+     *         The name of the asset as a {@link String}. The name may neither be null, nor empty
+     * @return The buffer, which contains the asset's content, as an instance of the class {@link
+     * ByteBuffer}
+     * @throws IOException
+     *         The exception, which is thrown, if the asset cannot be read
+     */
+    private static ByteBuffer mapAsset(@NonNull final AssetManager assetManager,
+                                       @NonNull final String assetName) throws IOException {
+        try {
+            AssetFileDescriptor descriptor = assetManager.openFd(assetName);
+
+            try {
+                FileInputStream inputStream = descriptor.createInputStream();
+
+                try {
+                    FileChannel channel = inputStream.getChannel();
+                    return channel.map(FileChannel.MapMode.READ_ONLY, descriptor.getStartOffset(),
+                            descriptor.getDeclaredLength());
+                } finally {
+                    inputStream.close();
+                }
+            } finally {
+                descriptor.close();
+            }
+        } catch (FileNotFoundException e) {
+            return readAsset(assetManager, assetName);
+        }
+    }
+
+    /**
+     * Reads a specific asset into a direct buffer.
+     *
+     * @param assetManager
+     *         The asset manager, which should be used to open the asset, as an instance of the
+     *         class {@link AssetManager}. The asset manager may not be null
+     * @param assetName
+     *         The name of the asset as a {@link String}. The name may neither be null, nor empty
+     * @return The buffer, which contains the asset's content, as an instance of the class {@link
+     * ByteBuffer}
+     * @throws IOException
+     *         The exception, which is thrown, if the asset cannot be read
+     */
+    private static ByteBuffer readAsset(@NonNull final AssetManager assetManager,
+                                        @NonNull final String assetName) throws IOException {
+        InputStream inputStream = assetManager.open(assetName, AssetManager.ACCESS_STREAMING);
+
+        try {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(inputStream.available(), 1));
+            byte[] chunk = new byte[8192];
+            int read;
+
+            while ((read = inputStream.read(chunk)) != -1) {
+                if (buffer.remaining() < read) {
+                    int capacity = Math.max(buffer.capacity() * 2, buffer.position() + read);
+                    ByteBuffer enlargedBuffer = ByteBuffer.allocateDirect(capacity);
+                    buffer.flip();
+                    enlargedBuffer.put(buffer);
+                    buffer = enlargedBuffer;
+                }
+
+                buffer.put(chunk, 0, read);
+            }
+
+            buffer.flip();
+            return buffer;
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    /**
+     * Creates a new word list, which is read from a specific buffer.
+     *
+     * @param buffer
+     *         The buffer, which contains the word list, as an instance of the class {@link
+     *         ByteBuffer}. The buffer may not be null
+     */
+    CompactDictionary(@NonNull final ByteBuffer buffer) {
+        Condition.INSTANCE.ensureNotNull(buffer, "The buffer may not be null");
+        Condition.INSTANCE.ensureTrue(buffer.limit() >= HEADER_SIZE &&
+                buffer.getInt(0) == MAGIC_NUMBER, "The buffer does not contain a word list");
+        Condition.INSTANCE.ensureTrue(buffer.getInt(4) == VERSION,
+                "Unsupported word list version: " + buffer.getInt(4));
+        this.buffer = buffer;
+        this.root = buffer.getInt(12);
+    }
+
+    /**
+     * Opens the word list, which is contained by a specific asset.
+     *
+     * @param assetManager
+     *         The asset manager, which should be used to open the asset, as an instance of the
+     *         class {@link AssetManager}. The asset manager may not be null
+     * @param assetName
+     *         The name of the asset as a {@link String}. The name may neither be null, nor empty
+     * @return The word list, which has been opened, as an instance of the class {@link
+     * CompactDictionary}
+     * @throws IOException
+     *         The exception, which is thrown, if the asset cannot be read
+     */
+    static CompactDictionary open(@NonNull final AssetManager assetManager,
+                                  @NonNull final String assetName) throws IOException {
+        return new CompactDictionary(mapAsset(assetManager, assetName));
+    }
+
+    /**
+     * Returns the root node of the trie.
+     *
+     * @return The offset of the root node as an {@link Integer} value
+     */
+    int getRoot() {
+        return root;
+    }
+
+    /**
+     * Returns, whether a specific node terminates a word, or not.
+     *
+     * @param node
+     *         The offset of the node as an {@link Integer} value
+     * @return True, if the node terminates a word, false otherwise
+     */
+    boolean isTerminal(final int node) {
+        return (buffer.get(node) & 1) != 0;
+    }
+
+    /**
+     * Returns the child of a specific node, which corresponds to a specific character.
+     *
+     * @param node
+     *         The offset of the node as an {@link Integer} value
+     * @param character
+     *         The character as a {@link Character} value
+     * @return The offset of the child as an {@link Integer} value or -1, if the node does not
+     * have a child, which corresponds to the given character
+     */
+    int getChild(final int node, final char character) {
+        int low = 0;
+        int high = (buffer.get(node + 1) & 0xFF) - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int entry = node + NODE_SIZE + middle * CHILD_SIZE;
+            char childCharacter = buffer.getChar(entry);
+
+            if (childCharacter < character) {
+                low = middle + 1;
+            } else if (childCharacter > character) {
+                high = middle - 1;
+            } else {
+                return buffer.getInt(entry + 2);
+            }
+        }
+
+        return -1;
+    }
+
+}
@@ -0,0 +1,423 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.constraints.text;
+
+import android.content.Context;
+import android.content.res.AssetManager;
+import android.util.Log;
+
+import java.io.IOException;
+
+import androidx.annotation.NonNull;
+import de.mrapp.android.validation.Constraint;
+import de.mrapp.util.Condition;
+
+/**
+ * A constraint, which allows to verify passwords in order to check, if they are hard to guess. A
+ * password is considered to be easy to guess, if at least two thirds of its characters belong to
+ * common words or passwords, keyboard walks (e.g. "qwerty"), sequences (e.g. "abcd" or "1234") or
+ * repeats (e.g. "aaa" or "abab"). Common substitutions like "@" for "a" or "0" for "o" are taken
+ * into account.
+ * <p>
+ * The words are read from a compact word list, which is stored in an asset. The asset is opened,
+ * when the constraint is used for the first time. Therefore, the word list does not slow down the
+ * startup of the app. Passwords are checked without allocating any memory. Passwords, which are
+ * longer than 64 characters, are checked in consecutive blocks of 64 characters, whose covered
+ * characters are summed up. Patterns, which span the boundary of two blocks, are only detected
+ * partially. If the asset is missing or
+ * cannot be read, a warning is logged and only keyboard walks, sequences and repeats are detected.
+ * <p>
+ * Assets are compressed by the build of the app, which uses the library, unless their extension is
+ * excluded. A compressed asset is copied into a direct buffer outside of the heap. In order to
+ * memory-map the word list instead, add {@code aaptOptions { noCompress 'dawg' }} to the {@code
+ * android} block of the app's build file.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public class DictionaryConstraint implements Constraint<CharSequence> {
+
+    /**
+     * The name of the asset, which contains the word list, which is used by default.
+     */
+    public static final String DEFAULT_ASSET_NAME = "validation_password_dictionary.dawg";
+
+    /**
+     * The tag, which is used for logging.
+     */
+    private static final String TAG = "DictionaryConstraint";
+
+    /**
+     * The length of the blocks, passwords are checked in.
+     */
+    private static final int BLOCK_LENGTH = Long.SIZE;
+
+    /**
+     * The minimum length of words, which are detected.
+     */
+    private static final int MIN_WORD_LENGTH = 4;
+
+    /**
+     * The minimum length of keyboard walks and sequences, which are detected.
+     */
+    private static final int MIN_WALK_LENGTH = 3;
+
+    /**
+     * The maximum length of the blocks of repeats, which are detected.
+     */
+    private static final int MAX_REPEAT_PERIOD = 4;
+
+    /**
+     * The rows of the keyboard, which are used to detect keyboard walks.
+     */
+    private static final String[] KEYBOARD_ROWS =
+            {"1234567890", "qwertyuiop", "asdfghjkl", "zxcvbnm"};
+
+    /**
+     * The keyboard rows of the ASCII characters, mapped to the characters, or -1, if a character
+     * is not part of a row.
+     */
+    private static final byte[] KEYBOARD_ROW = new byte[128];
+
+    /**
+     * The keyboard columns of the ASCII characters, mapped to the characters.
+     */
+    private static final byte[] KEYBOARD_COLUMN = new byte[128];
+
+    static {
+        for (int i = 0; i < KEYBOARD_ROW.length; i++) {
+            KEYBOARD_ROW[i] = -1;
+        }
+
+        for (int row = 0; row < KEYBOARD_ROWS.length; row++) {
+            String keys = KEYBOARD_ROWS[row];
+
+            for (int column = 0; column < keys.length(); column++) {
+                KEYBOARD_ROW[keys.charAt(column)] = (byte) row;
+                KEYBOARD_COLUMN[keys.charAt(column)] = (byte) column;
+            }
+        }
+    }
+
+    /**
+     * The asset manager, which is used to open the word list.
+     */
+    private final AssetManager assetManager;
+
+    /**
+     * The name of the asset, which contains the word list.
+     */
+    private final String assetName;
+
+    /**
+     * The word list or null, if it has not been opened yet.
+     */
+    private volatile CompactDictionary dictionary;
+
+    /**
+     * True, if opening the word list failed, false otherwise.
+     */
+    private volatile boolean dictionaryUnavailable;
+
+    /**
+     * Returns the lower case variant of a specific character, if it is an ASCII letter.
+     *
+     * @param character
+     *         The character as a {@link Character} value
+     * @return The lower case variant of the given character as a {@link Character} value
+     */
+    private static char toLowerCase(final char character) {
+        return character >= 'A' && character <= 'Z' ? (char) (character + ('a' - 'A')) :
+                character;
+    }
+
+    /**
+     * Returns the letter, a specific character is commonly substituted for, or the lower case
+     * variant of the character, if it is not a common substitution.
+     *
+     * @param character
+     *         The character as a {@link Character} value
+     * @return The letter as a {@link Character} value
+     */
+    private static char normalize(final char character) {
+        switch (character) {
+            case '@':
+            case '4':
+                return 'a';
+            case '8':
+                return 'b';
+            case '3':
+                return 'e';
+            case '1':
+            case '!':
+                return 'i';
+            case '0':
+                return 'o';
+            case '$':
+            case '5':
+                return 's';
+            case '7':
+            case '+':
+                return 't';
+            default:
+                return toLowerCase(character);
+        }
+    }
+
+    /**
+     * Returns, whether two characters are adjacent on the keyboard or in the alphabet, or not.
+     *
+     * @param previous
+     *         The first character as a {@link Character} value
+     * @param current
+     *         The second character as a {@link Character} value
+     * @return True, if the characters are adjacent, false otherwise
+     */
+    private static boolean isAdjacent(final char previous, final char current) {
+        char a = toLowerCase(previous);
+        char b = toLowerCase(current);
+
+        if (Character.isLetterOrDigit(a) && Character.isLetterOrDigit(b) &&
+                Math.abs(a - b) == 1) {
+            return true;
+        }
+
+        return a < KEYBOARD_ROW.length && b < KEYBOARD_ROW.length && KEYBOARD_ROW[a] != -1 &&
+                KEYBOARD_ROW[a] == KEYBOARD_ROW[b] &&
+                Math.abs(KEYBOARD_COLUMN[a] - KEYBOARD_COLUMN[b]) == 1;
+    }
+
+    /**
+     * Returns a bitmask, whose bits in a specific range are set.
+     *
+     * @param start
+     *         The start of the range (inclusive) as an {@link Integer} value
+     * @param end
+     *         The end of the range (exclusive) as an {@link Integer} value
+     * @return The bitmask as a {@link Long} value
+     */
+    private static long range(final int start, final int end) {
+        long mask = end - start == Long.SIZE ? -1L : (1L << (end - start)) - 1;
+        return mask << start;
+    }
+
+    /**
+     * Returns a bitmask, which specifies the characters of a specific block of a password, which
+     * belong to words of the word list.
+     *
+     * @param password
+     *         The password as an instance of the type {@link CharSequence}. The password may not
+     *         be null
+     * @param offset
+     *         The offset of the block as an {@link Integer} value
+     * @param length
+     *         The length of the block as an {@link Integer} value. The length may be at most 64
+     * @return The bitmask, whose bits correspond to the characters of the block, as a {@link Long}
+     * value
+     */
+    private long findWords(@NonNull final CharSequence password, final int offset,
+                           final int length) {
+        CompactDictionary dictionary = getDictionary();
+
+        if (dictionary == null) {
+            return 0;
+        }
+
+        long covered = 0;
+
+        for (int start = 0; start <= length - MIN_WORD_LENGTH; start++) {
+            int node = dictionary.getRoot();
+            int end = -1;
+
+            for (int i = start; i < length && node != -1; i++) {
+                node = dictionary.getChild(node, normalize(password.charAt(offset + i)));
+
+                if (node != -1 && dictionary.isTerminal(node) &&
+                        i - start + 1 >= MIN_WORD_LENGTH) {
+                    end = i + 1;
+                }
+            }
+
+            if (end != -1) {
+                covered |= range(start, end);
+            }
+        }
+
+        return covered;
+    }
+
+    /**
+     * Returns a bitmask, which specifies the characters of a specific block of a password, which
+     * belong to keyboard walks or sequences.
+     *
+     * @param password
+     *         The password as an instance of the type {@link CharSequence}. The password may not
+     *         be null
+     * @param offset
+     *         The offset of the block as an {@link Integer} value
+     * @param length
+     *         The length of the block as an {@link Integer} value. The length may be at most 64
+     * @return The bitmask, whose bits correspond to the characters of the block, as a {@link Long}
+     * value
+     */
+    private static long findWalks(@NonNull final CharSequence password, final int offset,
+                                  final int length) {
+        long covered = 0;
+        int start = 0;
+
+        for (int i = 1; i <= length; i++) {
+            if (i == length || !isAdjacent(password.charAt(offset + i - 1),
+                    password.charAt(offset + i))) {
+                if (i - start >= MIN_WALK_LENGTH) {
+                    covered |= range(start, i);
+                }
+
+                start = i;
+            }
+        }
+
+        return covered;
+    }
+
+    /**
+     * Returns a bitmask, which specifies the characters of a specific block of a password, which
+     * belong to repeated characters or blocks of characters.
+     *
+     * @param password
+     *         The password as an instance of the type {@link CharSequence}. The password may not
+     *         be null
+     * @param offset
+     *         The offset of the block as an {@link Integer} value
+     * @param length
+     *         The length of the block as an {@link Integer} value. The length may be at most 64
+     * @return The bitmask, whose bits correspond to the characters of the block, as a {@link Long}
+     * value
+     */
+    private static long findRepeats(@NonNull final CharSequence password, final int offset,
+                                    final int length) {
+        long covered = 0;
+
+        for (int period = 1; period <= MAX_REPEAT_PERIOD; period++) {
+            int start = period;
+
+            for (int i = period; i <= length; i++) {
+                if (i == length || toLowerCase(password.charAt(offset + i)) !=
+                        toLowerCase(password.charAt(offset + i - period))) {
+                    if (i - start >= Math.max(2, period)) {
+                        covered |= range(start - period, i);
+                    }
+
+                    start = i + 1;
+                }
+            }
+        }
+
+        return covered;
+    }
+
+    /**
+     * Returns the word list. If it has not been opened yet, it is opened. If opening the word list
+     * fails, because the asset is missing or does not contain a valid word list, it is not
+     * attempted again.
+     *
+     * @return The word list as an instance of the class {@link CompactDictionary} or null, if the
+     * word list is not available
+     */
+    private CompactDictionary getDictionary() {
+        CompactDictionary result = dictionary;
+
+        if (result == null && !dictionaryUnavailable) {
+            synchronized (this) {
+                result = dictionary;
+
+                if (result == null && !dictionaryUnavailable) {
+                    try {
+                        result = CompactDictionary.open(assetManager, assetName);
+                        dictionary = result;
+                    } catch (IOException | IllegalArgumentException e) {
+                        dictionaryUnavailable = true;
+                        Log.w(TAG, "Failed to open word list \"" + assetName + "\"", e);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a new constraint, which allows to verify passwords in order to check, if they are
+     * hard to guess. The word list, which is contained by the library, is used.
+     *
+     * @param context
+     *         The context, which should be used to open the word list, as an instance of the class
+     *         {@link Context}. The context may not be null
+     */
+    public DictionaryConstraint(@NonNull final Context context) {
+        this(context, DEFAULT_ASSET_NAME);
+    }
+
+    /**
+     * Creates a new constraint, which allows to verify passwords in order to check, if they are
+     * hard to guess. A custom word list, which is contained by a specific asset, is used. The
+     * asset is only memory-mapped, if it is not compressed.
+     *
+     * @param context
+     *         The context, which should be used to open the word list, as an instance of the class
+     *         {@link Context}. The context may not be null
+     * @param assetName
+     *         The name of the asset, which contains the word list, as a {@link String}. The name
+     *         may neither be null, nor empty
+     */
+    public DictionaryConstraint(@NonNull final Context context, @NonNull final String assetName) {
+        Condition.INSTANCE.ensureNotNull(context, "The context may not be null");
+        Condition.INSTANCE.ensureNotNull(assetName, "The asset name may not be null");
+        Condition.INSTANCE.ensureNotEmpty(assetName, "The asset name may not be empty");
+        this.assetManager = context.getApplicationContext().getAssets();
+        this.assetName = assetName;
+        this.dictionary = null;
+        this.dictionaryUnavailable = false;
+    }
+
+    /**
+     * Returns the name of the asset, which contains the word list.
+     *
+     * @return The name of the asset, which contains the word list, as a {@link String}
+     */
+    public final String getAssetName() {
+        return assetName;
+    }
+
+    @Override
+    public final boolean isSatisfied(final CharSequence value) {
+        int length = value.length();
+
+        if (length == 0) {
+            return false;
+        }
+
+        long coveredCount = 0;
+
+        for (int offset = 0; offset < length; offset += BLOCK_LENGTH) {
+            int blockLength = Math.min(BLOCK_LENGTH, length - offset);
+            long covered = findWords(value, offset, blockLength) |
+                    findWalks(value, offset, blockLength) |
+                    findRepeats(value, offset, blockLength);
+            coveredCount += Long.bitCount(covered);
+        }
+
+        return coveredCount * 3 < (long) length * 2;
+    }
+
+}
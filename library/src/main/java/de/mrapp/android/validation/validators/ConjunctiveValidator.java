@@ -17,6 +17,7 @@ import android.content.Context;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.StringRes;
+import de.mrapp.android.validation.ValidationMetrics;
 import de.mrapp.android.validation.Validator;
 import de.mrapp.util.Condition;
 
@@ -150,7 +151,7 @@ public class ConjunctiveValidator<Type> extends AbstractValidator<Type> {
     @Override
     public final boolean validate(final Type value) {
         for (Validator<Type> validator : validators) {
-            if (!validator.validate(value)) {
+            if (!ValidationMetrics.validate(validator, value)) {
                 return false;
             }
         }
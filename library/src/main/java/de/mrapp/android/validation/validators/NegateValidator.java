@@ -17,6 +17,7 @@ import android.content.Context;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.StringRes;
+import de.mrapp.android.validation.ValidationMetrics;
 import de.mrapp.android.validation.Validator;
 import de.mrapp.util.Condition;
 
@@ -137,7 +138,7 @@ public class NegateValidator<Type> extends AbstractValidator<Type> {
 
     @Override
     public final boolean validate(final Type value) {
-        return !getValidator().validate(value);
+        return !ValidationMetrics.validate(getValidator(), value);
     }
 
 }
\ No newline at end of file
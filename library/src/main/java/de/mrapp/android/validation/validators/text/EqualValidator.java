@@ -16,9 +16,14 @@ package de.mrapp.android.validation.validators.text;
 import android.content.Context;
 import android.text.TextUtils;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.StringRes;
+import de.mrapp.android.validation.DependentValidator;
 import de.mrapp.android.validation.EditText;
+import de.mrapp.android.validation.Validateable;
 import de.mrapp.android.validation.validators.AbstractValidator;
 import de.mrapp.util.Condition;
 
@@ -28,7 +33,8 @@ import de.mrapp.util.Condition;
  *
  * @author Michael Rapp
  */
-public class EqualValidator extends AbstractValidator<CharSequence> {
+public class EqualValidator extends AbstractValidator<CharSequence>
+        implements DependentValidator<CharSequence> {
 
     /**
      * The edit text widget, which contains the content, the texts should be equal to.
@@ -95,6 +101,12 @@ public class EqualValidator extends AbstractValidator<CharSequence> {
         this.editText = editText;
     }
 
+    @NonNull
+    @Override
+    public final Collection<Validateable<?>> getDependencies() {
+        return Collections.<Validateable<?>>singletonList(getEditText());
+    }
+
     @Override
     public final boolean validate(final CharSequence value) {
         return TextUtils.equals(value, getEditText().getText());
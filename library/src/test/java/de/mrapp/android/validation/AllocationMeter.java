@@ -0,0 +1,151 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import java.lang.management.ManagementFactory;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Measures the memory, which is allocated by the current thread, by using the thread allocation
+ * counters of the HotSpot JVM.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+final class AllocationMeter {
+
+    /**
+     * The number of iterations, which are executed before measuring, in order to allow the JIT
+     * compiler to optimize the measured code.
+     */
+    private static final int WARM_UP_ITERATIONS = 20000;
+
+    /**
+     * The number of times, the measured iterations are repeated. The smallest result is used.
+     */
+    private static final int RUNS = 5;
+
+    /**
+     * A task, which does nothing. It is used to measure the overhead of the measurement itself.
+     */
+    private static final Runnable EMPTY_TASK = new Runnable() {
+
+        @Override
+        public void run() {
+
+        }
+
+    };
+
+    /**
+     * The bean, which provides the thread allocation counters.
+     */
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    /**
+     * Returns the number of bytes, which are allocated by a specific task, when it is executed a
+     * specific number of times.
+     *
+     * @param task
+     *         The task as an instance of the type {@link Runnable}. The task may not be null
+     * @param iterations
+     *         The number of times, the task should be executed, as an {@link Integer} value
+     * @return The number of bytes, which have been allocated, as a {@link Long} value
+     */
+    private long measureTotal(@NonNull final Runnable task, final int iterations) {
+        long result = Long.MAX_VALUE;
+
+        for (int run = 0; run < RUNS; run++) {
+            long start = getAllocatedBytes();
+
+            for (int i = 0; i < iterations; i++) {
+                task.run();
+            }
+
+            result = Math.min(result, getAllocatedBytes() - start);
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a new meter, which measures the memory, which is allocated by the current thread.
+     *
+     * @param threadMXBean
+     *         The bean, which provides the thread allocation counters, as an instance of the type
+     *         {@link com.sun.management.ThreadMXBean}. The bean may not be null
+     */
+    private AllocationMeter(@NonNull final com.sun.management.ThreadMXBean threadMXBean) {
+        this.threadMXBean = threadMXBean;
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * Creates and returns a meter, which measures the memory, which is allocated by the current
+     * thread.
+     *
+     * @return The meter, which has been created, as an instance of the class {@link
+     * AllocationMeter} or null, if the JVM does not provide thread allocation counters
+     */
+    static AllocationMeter create() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocationBean =
+                    (com.sun.management.ThreadMXBean) threadMXBean;
+
+            if (allocationBean.isThreadAllocatedMemorySupported()) {
+                return new AllocationMeter(allocationBean);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the total number of bytes, which have been allocated by the current thread so far.
+     *
+     * @return The total number of bytes, which have been allocated by the current thread so far, as
+     * a {@link Long} value
+     */
+    long getAllocatedBytes() {
+        return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Returns the number of bytes, which are allocated by a single execution of a specific task.
+     * The task is executed repeatedly to warm up the JIT compiler before it is measured. The
+     * overhead of the measurement is subtracted.
+     *
+     * @param task
+     *         The task as an instance of the type {@link Runnable}. The task may not be null
+     * @param iterations
+     *         The number of times, the task should be executed while measuring, as an {@link
+     *         Integer} value. The number of iterations must be at least 1
+     * @return The number of bytes, which are allocated by a single execution of the task, rounded
+     * down, as a {@link Long} value
+     */
+    long measure(@NonNull final Runnable task, final int iterations) {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            task.run();
+            EMPTY_TASK.run();
+        }
+
+        long overhead = measureTotal(EMPTY_TASK, iterations);
+        long allocatedBytes = measureTotal(task, iterations);
+        return Math.max(0, allocatedBytes - overhead) / iterations;
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+
+/**
+ * A table, which contains the results of a benchmark. The table is printed to the console and
+ * written as a CSV file to the directory build/reports/benchmarks, in order to allow to compare
+ * the results of different releases.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+final class BenchmarkReport {
+
+    /**
+     * The directory, the reports are written to, relative to the directory of the module.
+     */
+    private static final String DIRECTORY = "build/reports/benchmarks";
+
+    /**
+     * The name of the benchmark.
+     */
+    private final String name;
+
+    /**
+     * The names of the columns.
+     */
+    private final String[] columns;
+
+    /**
+     * The rows, which have been added to the report.
+     */
+    private final List<String[]> rows;
+
+    /**
+     * Returns the width of a specific column, which is needed to print all of its values.
+     *
+     * @param column
+     *         The index of the column as an {@link Integer} value
+     * @return The width of the column as an {@link Integer} value
+     */
+    private int getWidth(final int column) {
+        int width = columns[column].length();
+
+        for (String[] row : rows) {
+            width = Math.max(width, row[column].length());
+        }
+
+        return width;
+    }
+
+    /**
+     * Appends a specific row to a builder, aligning its values.
+     *
+     * @param builder
+     *         The builder as an instance of the class {@link StringBuilder}. The builder may not
+     *         be null
+     * @param row
+     *         An array, which contains the values of the row, as a {@link String} array. The
+     *         array may not be null
+     * @param widths
+     *         An array, which contains the widths of the columns, as an {@link Integer} array. The
+     *         array may not be null
+     */
+    private void appendRow(@NonNull final StringBuilder builder, @NonNull final String[] row,
+                           @NonNull final int[] widths) {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                builder.append("  ");
+            }
+
+            for (int j = row[i].length(); j < widths[i]; j++) {
+                builder.append(' ');
+            }
+
+            builder.append(row[i]);
+        }
+
+        builder.append('\n');
+    }
+
+    /**
+     * Writes the report as a CSV file.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if the file could not be written
+     */
+    private void writeCsv() throws IOException {
+        File directory = new File(DIRECTORY);
+
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Failed to create directory " + directory.getAbsolutePath());
+        }
+
+        File file = new File(directory, name + ".csv");
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+
+        try {
+            writer.write(join(columns));
+
+            for (String[] row : rows) {
+                writer.write(join(row));
+            }
+        } finally {
+            writer.close();
+        }
+
+        System.out.println("Report written to " + file.getAbsolutePath());
+    }
+
+    /**
+     * Joins the values of a specific row to a line of a CSV file. Values, which contain commas or
+     * quotes, are quoted.
+     *
+     * @param row
+     *         An array, which contains the values of the row, as a {@link String} array. The
+     *         array may not be null
+     * @return The line as a {@link String}
+     */
+    private static String join(@NonNull final String[] row) {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+
+            if (row[i].indexOf(',') != -1 || row[i].indexOf('"') != -1) {
+                builder.append('"').append(row[i].replace("\"", "\"\"")).append('"');
+            } else {
+                builder.append(row[i]);
+            }
+        }
+
+        return builder.append('\n').toString();
+    }
+
+    /**
+     * Creates a new report.
+     *
+     * @param name
+     *         The name of the benchmark as a {@link String}. The name is used as the name of the
+     *         CSV file and may not be null
+     * @param columns
+     *         The names of the columns as a {@link String} array. The array may not be null
+     */
+    BenchmarkReport(@NonNull final String name, @NonNull final String... columns) {
+        this.name = name;
+        this.columns = columns;
+        this.rows = new ArrayList<>();
+    }
+
+    /**
+     * Adds a row to the report.
+     *
+     * @param values
+     *         The values of the row, one per column, as an {@link Object} array. The array may not
+     *         be null
+     */
+    void addRow(@NonNull final Object... values) {
+        if (values.length != columns.length) {
+            throw new IllegalArgumentException(
+                    "Expected " + columns.length + " values, but got " + values.length);
+        }
+
+        String[] row = new String[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            row[i] = String.valueOf(values[i]);
+        }
+
+        rows.add(row);
+    }
+
+    /**
+     * Prints the report to the console and writes it as a CSV file.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if the file could not be written
+     */
+    void write() throws IOException {
+        int[] widths = new int[columns.length];
+
+        for (int i = 0; i < columns.length; i++) {
+            widths[i] = getWidth(i);
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append(name).append('\n');
+        appendRow(builder, columns, widths);
+
+        for (String[] row : rows) {
+            appendRow(builder, row, widths);
+        }
+
+        System.out.print(builder);
+        writeCsv();
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.content.Context;
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.view.ContextThemeWrapper;
+import android.widget.TextView;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNotNull;
+
+/**
+ * Tests, whether typing into an {@link EditText}, which does not have any validators, but shows
+ * the number of characters, which have been entered, allocates any memory in addition to the
+ * memory, which is allocated by the framework.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+@RunWith(RobolectricTestRunner.class)
+public class EditTextAllocationTest {
+
+    /**
+     * The number of keystrokes, which are measured.
+     */
+    private static final int KEYSTROKES = 1000;
+
+    /**
+     * The maximum number of characters of the edit text.
+     */
+    private static final int MAX_NUMBER_OF_CHARACTERS = 5000;
+
+    /**
+     * The characters, which are typed.
+     */
+    private static final String KEYS = "abcdefghijklmnopqrstuvwxyz0123456789";
+
+    /**
+     * The edit text, which is tested.
+     */
+    private EditText editText;
+
+    /**
+     * The framework's edit text, which is used to measure the memory, which is allocated by the
+     * framework when typing.
+     */
+    private android.widget.EditText baselineEditText;
+
+    /**
+     * The framework's text view, which is used to measure the memory, which is allocated by the
+     * framework when showing the number of characters.
+     */
+    private TextView baselineTextView;
+
+    /**
+     * The characters, which are shown by the baseline text view.
+     */
+    private char[] baselineMessage;
+
+    /**
+     * Types a specific number of characters into an editable.
+     *
+     * @param editable
+     *         The editable as an instance of the type {@link Editable}. The editable may not be
+     *         null
+     * @param keystrokes
+     *         The number of characters, which should be typed, as an {@link Integer} value
+     * @param showMessage
+     *         True, if the baseline text view should show a message after each keystroke, false
+     *         otherwise
+     */
+    private void type(@NonNull final Editable editable, final int keystrokes,
+                      final boolean showMessage) {
+        for (int i = 0; i < keystrokes; i++) {
+            int index = i % KEYS.length();
+            editable.append(KEYS, index, index + 1);
+
+            if (showMessage) {
+                baselineTextView.setText(baselineMessage, 0, 1 + i % baselineMessage.length);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bytes, which are allocated by typing into an editable.
+     *
+     * @param allocationMeter
+     *         The meter, which should be used to measure the allocations, as an instance of the
+     *         class {@link AllocationMeter}. The meter may not be null
+     * @param editable
+     *         The editable as an instance of the type {@link Editable}. The editable may not be
+     *         null
+     * @param showMessage
+     *         True, if the baseline text view should show a message after each keystroke, false
+     *         otherwise
+     * @return The number of bytes, which have been allocated, as a {@link Long} value
+     */
+    private long measure(@NonNull final AllocationMeter allocationMeter,
+                         @NonNull final Editable editable, final boolean showMessage) {
+        editable.clear();
+        long start = allocationMeter.getAllocatedBytes();
+        type(editable, KEYSTROKES, showMessage);
+        return allocationMeter.getAllocatedBytes() - start;
+    }
+
+    /**
+     * Creates the edit text, which is tested, and the framework's views, which are used as a
+     * baseline.
+     */
+    @Before
+    public final void setUp() {
+        Context context = new ContextThemeWrapper(ApplicationProvider.getApplicationContext(),
+                R.style.Theme_AppCompat_Light);
+        editText = new EditText(context);
+        editText.validateOnValueChange(true);
+        editText.setMaxNumberOfCharacters(MAX_NUMBER_OF_CHARACTERS);
+        baselineEditText = new android.widget.EditText(context);
+        baselineEditText.addTextChangedListener(new TextWatcher() {
+
+            @Override
+            public void beforeTextChanged(final CharSequence s, final int start, final int count,
+                                          final int after) {
+
+            }
+
+            @Override
+            public void onTextChanged(final CharSequence s, final int start, final int before,
+                                      final int count) {
+
+            }
+
+            @Override
+            public void afterTextChanged(final Editable s) {
+
+            }
+
+        });
+        baselineTextView = new TextView(context);
+        baselineMessage = "9999 / 5000".toCharArray();
+    }
+
+    /**
+     * Tests, whether typing into an edit text, which does not have any validators, does not
+     * allocate any memory per keystroke in addition to the framework's views.
+     */
+    @Test
+    public final void testKeystrokesDoNotAllocate() {
+        AllocationMeter allocationMeter = AllocationMeter.create();
+        assumeNotNull(allocationMeter);
+        assertTrue(editText.getValidators().isEmpty());
+        type(editText.getText(), KEYSTROKES, false);
+        type(baselineEditText.getText(), KEYSTROKES, true);
+        long allocatedBytes = Long.MAX_VALUE;
+        long baselineBytes = Long.MAX_VALUE;
+
+        for (int run = 0; run < 3; run++) {
+            allocatedBytes =
+                    Math.min(allocatedBytes, measure(allocationMeter, editText.getText(), false));
+            baselineBytes = Math.min(baselineBytes,
+                    measure(allocationMeter, baselineEditText.getText(), true));
+        }
+
+        long bytesPerKeystroke = Math.max(0, allocatedBytes - baselineBytes) / KEYSTROKES;
+        System.out.println("EditText: " + allocatedBytes + " bytes, baseline: " + baselineBytes +
+                " bytes for " + KEYSTROKES + " keystrokes");
+        assertEquals("Bytes allocated per keystroke", 0, bytesPerKeystroke);
+        assertTrue(editText.isValid());
+        assertEquals(KEYSTROKES, editText.getText().length());
+    }
+
+}
@@ -0,0 +1,495 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.content.Context;
+import android.graphics.Color;
+import android.text.Editable;
+import android.view.ContextThemeWrapper;
+import android.widget.AdapterView;
+import android.widget.ArrayAdapter;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+import de.mrapp.android.validation.constraints.text.ContainsLetterConstraint;
+import de.mrapp.android.validation.constraints.text.ContainsNumberConstraint;
+import de.mrapp.android.validation.constraints.text.ContainsSymbolConstraint;
+import de.mrapp.android.validation.constraints.text.DictionaryConstraint;
+import de.mrapp.android.validation.constraints.text.MinLengthConstraint;
+import de.mrapp.android.validation.validators.ConjunctiveValidator;
+import de.mrapp.android.validation.validators.NotNullValidator;
+import de.mrapp.android.validation.validators.misc.EmailAddressValidator;
+import de.mrapp.android.validation.validators.text.Case;
+import de.mrapp.android.validation.validators.text.LetterOrNumberValidator;
+import de.mrapp.android.validation.validators.text.MaxLengthValidator;
+import de.mrapp.android.validation.validators.text.MinLengthValidator;
+import de.mrapp.android.validation.validators.text.NotEmptyValidator;
+import de.mrapp.android.validation.validators.text.RegexValidator;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * A benchmark, which measures the latency and the allocations of single keystrokes, which are
+ * typed into an {@link EditText} or a {@link PasswordEditText}, respectively of selecting an item
+ * of a {@link Spinner}, with different validators. For each combination, a scripted session of
+ * 1,000 keystrokes is measured after a session of the same length has been typed to warm up the
+ * JIT compiler. The latencies are measured with {@link System#nanoTime()} and, in addition, with
+ * the histogram of value changes, which is provided by {@link ValidationMetrics}.
+ *
+ * The benchmark is not executed by default. It can be executed by running the unit tests with the
+ * project property "benchmarks", e.g. <code>gradlew :library:testDebugUnitTest
+ * -Pbenchmarks</code>. The results are written to the directory build/reports/benchmarks.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+@RunWith(RobolectricTestRunner.class)
+public class KeystrokeLatencyBenchmark {
+
+    /**
+     * A scripted typing session, which is driven into a view.
+     */
+    private abstract static class Session {
+
+        /**
+         * The type of the view, the session is driven into.
+         */
+        private final String fieldType;
+
+        /**
+         * A description of the validators of the view.
+         */
+        private final String validators;
+
+        /**
+         * Creates a new session.
+         *
+         * @param fieldType
+         *         The type of the view, the session is driven into, as a {@link String}. The type
+         *         may not be null
+         * @param validators
+         *         A description of the validators of the view as a {@link String}. The
+         *         description may not be null
+         */
+        Session(@NonNull final String fieldType, @NonNull final String validators) {
+            this.fieldType = fieldType;
+            this.validators = validators;
+        }
+
+        /**
+         * Performs a specific keystroke of the session.
+         *
+         * @param index
+         *         The index of the keystroke as an {@link Integer} value
+         */
+        abstract void keystroke(int index);
+
+    }
+
+    /**
+     * A session, which types a specific text into an edit text and deletes it again by using the
+     * backspace key, until the session has been completed.
+     */
+    private static final class TypingSession extends Session {
+
+        /**
+         * The edit text, the text is typed into.
+         */
+        private final EditText editText;
+
+        /**
+         * The text, which is typed.
+         */
+        private final String script;
+
+        /**
+         * Creates a new session, which types a specific text into an edit text.
+         *
+         * @param validators
+         *         A description of the validators of the edit text as a {@link String}. The
+         *         description may not be null
+         * @param editText
+         *         The edit text, the text should be typed into, as an instance of the class {@link
+         *         EditText}. The edit text may not be null
+         * @param script
+         *         The text, which should be typed, as a {@link String}. The text may not be null
+         */
+        TypingSession(@NonNull final String validators, @NonNull final EditText editText,
+                      @NonNull final String script) {
+            super(editText.getClass().getSimpleName(), validators);
+            this.editText = editText;
+            this.script = script;
+        }
+
+        @Override
+        void keystroke(final int index) {
+            Editable text = editText.getText();
+            int position = index % (2 * script.length());
+
+            if (position < script.length()) {
+                text.append(script, position, position + 1);
+            } else {
+                text.delete(text.length() - 1, text.length());
+            }
+        }
+
+    }
+
+    /**
+     * A session, which selects the items of a spinner one after another.
+     */
+    private static final class SelectionSession extends Session {
+
+        /**
+         * The spinner, whose items are selected.
+         */
+        private final Spinner spinner;
+
+        /**
+         * Creates a new session, which selects the items of a spinner one after another.
+         *
+         * @param validators
+         *         A description of the validators of the spinner as a {@link String}. The
+         *         description may not be null
+         * @param spinner
+         *         The spinner, whose items should be selected, as an instance of the class {@link
+         *         Spinner}. The spinner may not be null
+         */
+        SelectionSession(@NonNull final String validators, @NonNull final Spinner spinner) {
+            super(Spinner.class.getSimpleName(), validators);
+            this.spinner = spinner;
+        }
+
+        @Override
+        void keystroke(final int index) {
+            android.widget.Spinner view = spinner.getView();
+            int position = 1 + index % (view.getCount() - 1);
+            spinner.setSelection(position);
+            // The framework dispatches the selection after the next layout pass, which does not
+            // take place for a detached view, so the listener is invoked directly
+            AdapterView.OnItemSelectedListener listener = view.getOnItemSelectedListener();
+            listener.onItemSelected(view, null, position, position);
+        }
+
+    }
+
+    /**
+     * The number of keystrokes, which are measured per session.
+     */
+    private static final int KEYSTROKES = 1000;
+
+    /**
+     * The error message, which is used by the validators.
+     */
+    private static final String ERROR_MESSAGE = "error";
+
+    /**
+     * The items of the spinners.
+     */
+    private static final String[] ITEMS =
+            {"Berlin", "Hamburg", "Munich", "Cologne", "Frankfurt", "Stuttgart", "invalid"};
+
+    /**
+     * The context, which is used to create the views.
+     */
+    private Context context;
+
+    /**
+     * Returns a specific percentile of sorted latencies.
+     *
+     * @param sortedLatencies
+     *         An array, which contains the sorted latencies, as a {@link Long} array. The array
+     *         may not be null
+     * @param percentile
+     *         The percentile as an {@link Integer} value between 1 and 100
+     * @return The percentile as a {@link Long} value
+     */
+    private static long getPercentile(@NonNull final long[] sortedLatencies,
+                                      final int percentile) {
+        int rank = (int) Math.ceil(sortedLatencies.length * percentile / 100.0);
+        return sortedLatencies[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Returns the upper bound of the bucket of a histogram of {@link ValidationMetrics}, which
+     * contains a specific percentile.
+     *
+     * @param entry
+     *         The entry, which contains the histogram, as an instance of the class {@link
+     *         ValidationMetrics.Entry}. The entry may not be null
+     * @param percentile
+     *         The percentile as an {@link Integer} value between 1 and 100
+     * @return A textual representation of the upper bound in microseconds as a {@link String}
+     */
+    private static String getPercentile(@NonNull final ValidationMetrics.Entry entry,
+                                        final int percentile) {
+        long[] histogram = entry.getHistogram();
+        long[] bounds = ValidationMetrics.getBucketBounds();
+        long rank = (long) Math.ceil(entry.getCount() * percentile / 100.0);
+        long count = 0;
+
+        for (int i = 0; i < bounds.length; i++) {
+            count += histogram[i];
+
+            if (count >= rank) {
+                return "<" + toMicros(bounds[i]);
+            }
+        }
+
+        return ">=" + toMicros(bounds[bounds.length - 1]);
+    }
+
+    /**
+     * Converts a specific duration from nanoseconds to microseconds.
+     *
+     * @param nanos
+     *         The duration in nanoseconds as a {@link Long} value
+     * @return A textual representation of the duration in microseconds as a {@link String}
+     */
+    private static String toMicros(final long nanos) {
+        return String.format("%.1f", nanos / 1000.0);
+    }
+
+    /**
+     * Performs the keystrokes of a specific session and measures their latencies.
+     *
+     * @param session
+     *         The session as an instance of the class {@link Session}. The session may not be null
+     * @param latencies
+     *         An array, the latencies in nanoseconds should be written to, as a {@link Long} array
+     *         or null, if the latencies should not be measured
+     */
+    private static void run(@NonNull final Session session, final long[] latencies) {
+        for (int i = 0; i < KEYSTROKES; i++) {
+            if (latencies != null) {
+                long start = System.nanoTime();
+                session.keystroke(i);
+                latencies[i] = System.nanoTime() - start;
+            } else {
+                session.keystroke(i);
+            }
+        }
+    }
+
+    /**
+     * Measures a specific session and adds its results to a report.
+     *
+     * @param report
+     *         The report as an instance of the class {@link BenchmarkReport}. The report may not
+     *         be null
+     * @param allocationMeter
+     *         The meter, which should be used to measure the allocations, as an instance of the
+     *         class {@link AllocationMeter} or null, if allocations cannot be measured
+     * @param session
+     *         The session as an instance of the class {@link Session}. The session may not be null
+     */
+    private static void measure(@NonNull final BenchmarkReport report,
+                                final AllocationMeter allocationMeter,
+                                @NonNull final Session session) {
+        ValidationMetrics metrics = ValidationMetrics.getInstance();
+        metrics.setEnabled(false);
+        run(session, null);
+        long[] latencies = new long[KEYSTROKES];
+        long allocatedBytes = allocationMeter != null ? allocationMeter.getAllocatedBytes() : 0;
+        run(session, latencies);
+        String bytesPerKeystroke = allocationMeter != null ?
+                Long.toString((allocationMeter.getAllocatedBytes() - allocatedBytes) / KEYSTROKES) :
+                "n/a";
+        metrics.reset();
+        metrics.setEnabled(true);
+
+        try {
+            run(session, null);
+        } finally {
+            metrics.setEnabled(false);
+        }
+
+        Map<String, ValidationMetrics.Entry> valueChanges =
+                metrics.getSnapshot().getValueChanges();
+        assertEquals(session.fieldType, 1, valueChanges.size());
+        ValidationMetrics.Entry entry = valueChanges.values().iterator().next();
+        assertEquals(session.fieldType, KEYSTROKES, entry.getCount());
+        Arrays.sort(latencies);
+        report.addRow(session.fieldType, session.validators, toMicros(getPercentile(latencies, 50)),
+                toMicros(getPercentile(latencies, 99)),
+                toMicros(latencies[latencies.length - 1]), getPercentile(entry, 50),
+                getPercentile(entry, 99), bytesPerKeystroke);
+        metrics.reset();
+    }
+
+    /**
+     * Creates and returns an edit text, which uses specific validators.
+     *
+     * @param validators
+     *         The validators, which should be used, as an array of the type {@link Validator}.
+     *         The array may not be null
+     * @return The edit text, which has been created, as an instance of the class {@link EditText}
+     */
+    @SafeVarargs
+    private final EditText createEditText(@NonNull final Validator<CharSequence>... validators) {
+        EditText editText = new EditText(context);
+        editText.validateOnValueChange(true);
+        editText.addAllValidators(validators);
+        return editText;
+    }
+
+    /**
+     * Creates and returns a password edit text, which uses specific validators and verifies the
+     * password strength, if constraints are given.
+     *
+     * @param constraints
+     *         The constraints, which should be used to verify the password strength, as an array
+     *         of the type {@link Constraint}. The array may not be null
+     * @param validators
+     *         The validators, which should be used, as an array of the type {@link Validator}.
+     *         The array may not be null
+     * @return The password edit text, which has been created, as an instance of the class {@link
+     * PasswordEditText}
+     */
+    private PasswordEditText createPasswordEditText(
+            @NonNull final Constraint<CharSequence>[] constraints,
+            @NonNull final Validator<CharSequence>[] validators) {
+        PasswordEditText passwordEditText = new PasswordEditText(context);
+        passwordEditText.validateOnValueChange(true);
+        passwordEditText.addAllValidators(validators);
+
+        if (constraints.length > 0) {
+            passwordEditText.addAllConstraints(constraints);
+            passwordEditText.addAllHelperTexts("Weak", "Medium", "Strong");
+            passwordEditText.addAllHelperTextColors(Color.RED, Color.YELLOW, Color.GREEN);
+        }
+
+        return passwordEditText;
+    }
+
+    /**
+     * Creates and returns a spinner, which uses specific validators.
+     *
+     * @param validators
+     *         The validators, which should be used, as an array of the type {@link Validator}.
+     *         The array may not be null
+     * @return The spinner, which has been created, as an instance of the class {@link Spinner}
+     */
+    @SafeVarargs
+    private final Spinner createSpinner(@NonNull final Validator<Object>... validators) {
+        Spinner spinner = new Spinner(context);
+        spinner.setHint("Select a city");
+        spinner.setAdapter(
+                new ArrayAdapter<>(context, android.R.layout.simple_spinner_item, ITEMS));
+        spinner.validateOnValueChange(true);
+        spinner.addAllValidators(validators);
+        return spinner;
+    }
+
+    /**
+     * Measures the latency and the allocations of keystrokes for all combinations of views and
+     * validators.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if the report could not be written
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public final void benchmarkKeystrokes() throws IOException {
+        context = new ContextThemeWrapper(ApplicationProvider.getApplicationContext(),
+                R.style.Theme_AppCompat_Light);
+        Validator<Object> notValidValidator = new Validator<Object>() {
+
+            @Override
+            public CharSequence getErrorMessage() {
+                return ERROR_MESSAGE;
+            }
+
+            @Override
+            public android.graphics.drawable.Drawable getIcon() {
+                return null;
+            }
+
+            @Override
+            public boolean validate(final Object value) {
+                return !"invalid".equals(value);
+            }
+
+        };
+        Constraint<CharSequence>[] noConstraints = new Constraint[0];
+        Constraint<CharSequence>[] constraints =
+                new Constraint[]{new MinLengthConstraint(8), new ContainsLetterConstraint(),
+                        new ContainsNumberConstraint(), new ContainsSymbolConstraint()};
+        Constraint<CharSequence>[] dictionaryConstraints =
+                new Constraint[]{new MinLengthConstraint(8), new ContainsLetterConstraint(),
+                        new ContainsNumberConstraint(), new ContainsSymbolConstraint(),
+                        new DictionaryConstraint(context)};
+        Validator<CharSequence>[] noValidators = new Validator[0];
+        Validator<CharSequence>[] passwordValidators =
+                new Validator[]{new NotEmptyValidator(ERROR_MESSAGE),
+                        new MinLengthValidator(ERROR_MESSAGE, 8)};
+        EditText counterEditText = createEditText();
+        counterEditText.setMaxNumberOfCharacters(20);
+        Session[] sessions = new Session[]{
+                new TypingSession("none", createEditText(), "The quick brown fox jumps"),
+                new TypingSession("max characters", counterEditText,
+                        "The quick brown fox jumps"),
+                new TypingSession("not empty, min/max length, letters or numbers",
+                        createEditText(new NotEmptyValidator(ERROR_MESSAGE),
+                                new MinLengthValidator(ERROR_MESSAGE, 4),
+                                new MaxLengthValidator(ERROR_MESSAGE, 20),
+                                new LetterOrNumberValidator(ERROR_MESSAGE,
+                                        Case.CASE_INSENSITIVE, true)),
+                        "The quick brown fox jumps"),
+                new TypingSession("not empty, email address",
+                        createEditText(new NotEmptyValidator(ERROR_MESSAGE),
+                                new EmailAddressValidator(ERROR_MESSAGE)),
+                        "john.doe@example.com"),
+                new TypingSession("conjunctive regex", createEditText(ConjunctiveValidator
+                        .create(ERROR_MESSAGE, new RegexValidator(ERROR_MESSAGE,
+                                        java.util.regex.Pattern.compile("[a-z0-9 ]*")),
+                                new MaxLengthValidator(ERROR_MESSAGE, 20))),
+                        "the quick brown fox jumps"),
+                new TypingSession("none",
+                        createPasswordEditText(noConstraints, noValidators), "Tr0ub4dor&3x"),
+                new TypingSession("not empty, min length",
+                        createPasswordEditText(noConstraints, passwordValidators),
+                        "Tr0ub4dor&3x"),
+                new TypingSession("not empty, min length, 4 constraints",
+                        createPasswordEditText(constraints, passwordValidators), "Tr0ub4dor&3x"),
+                new TypingSession("not empty, min length, 4 constraints, dictionary",
+                        createPasswordEditText(dictionaryConstraints, passwordValidators),
+                        "Tr0ub4dor&3x"),
+                new SelectionSession("none", createSpinner()),
+                new SelectionSession("not null",
+                        createSpinner(new NotNullValidator(ERROR_MESSAGE))),
+                new SelectionSession("not null, custom",
+                        createSpinner(new NotNullValidator(ERROR_MESSAGE), notValidValidator))};
+        AllocationMeter allocationMeter = AllocationMeter.create();
+        BenchmarkReport report =
+                new BenchmarkReport("keystroke_latency", "field type", "validators", "p50 (us)",
+                        "p99 (us)", "max (us)", "metrics p50 (us)", "metrics p99 (us)",
+                        "bytes/keystroke");
+
+        for (Session session : sessions) {
+            measure(report, allocationMeter, session);
+        }
+
+        report.write();
+    }
+
+}
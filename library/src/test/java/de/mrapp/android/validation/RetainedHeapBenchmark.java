@@ -0,0 +1,291 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.content.Context;
+import android.graphics.Color;
+import android.view.ContextThemeWrapper;
+import android.widget.ArrayAdapter;
+import android.widget.LinearLayout;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+import de.mrapp.android.validation.constraints.text.ContainsLetterConstraint;
+import de.mrapp.android.validation.constraints.text.ContainsNumberConstraint;
+import de.mrapp.android.validation.constraints.text.ContainsSymbolConstraint;
+import de.mrapp.android.validation.constraints.text.MinLengthConstraint;
+import de.mrapp.android.validation.validators.NotNullValidator;
+import de.mrapp.android.validation.validators.text.MaxLengthValidator;
+import de.mrapp.android.validation.validators.text.MinLengthValidator;
+import de.mrapp.android.validation.validators.text.NotEmptyValidator;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * A benchmark, which measures the heap, which is retained by forms of 10, 100 and 1,000 {@link
+ * EditText}, {@link PasswordEditText} or {@link Spinner} widgets. Each widget is configured like
+ * in a typical form. The retained heap is measured once after the form has been created and once
+ * after all of its widgets have been validated, which causes error messages to be shown. It is
+ * obtained from the used heap after garbage collection and reported per widget.
+ *
+ * The benchmark is not executed by default. It can be executed by running the unit tests with the
+ * project property "benchmarks", e.g. <code>gradlew :library:testDebugUnitTest
+ * -Pbenchmarks</code>. The results are written to the directory build/reports/benchmarks.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+@RunWith(RobolectricTestRunner.class)
+public class RetainedHeapBenchmark {
+
+    /**
+     * Creates the widgets of a specific type.
+     */
+    private interface FieldFactory {
+
+        /**
+         * Returns the type of the widgets, which are created.
+         *
+         * @return The type of the widgets as a {@link String}
+         */
+        String getFieldType();
+
+        /**
+         * Creates and returns a new widget.
+         *
+         * @param context
+         *         The context, which should be used by the widget, as an instance of the class
+         *         {@link Context}. The context may not be null
+         * @return The widget, which has been created, as an instance of the class {@link
+         * AbstractValidateableView}
+         */
+        AbstractValidateableView<?, ?> createField(@NonNull Context context);
+
+    }
+
+    /**
+     * The numbers of widgets, the forms consist of.
+     */
+    private static final int[] FORM_SIZES = {10, 100, 1000};
+
+    /**
+     * The maximum number of garbage collections, which are triggered to obtain the used heap.
+     */
+    private static final int MAX_GARBAGE_COLLECTIONS = 10;
+
+    /**
+     * The error message, which is used by the validators.
+     */
+    private static final String ERROR_MESSAGE = "error";
+
+    /**
+     * The items of the spinners.
+     */
+    private static final String[] ITEMS =
+            {"Berlin", "Hamburg", "Munich", "Cologne", "Frankfurt", "Stuttgart"};
+
+    /**
+     * The bean, which provides the heap usage.
+     */
+    private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+
+    /**
+     * Returns the used heap, after unreachable objects have been collected. Garbage collections
+     * are triggered until the used heap does not decrease anymore.
+     *
+     * @return The used heap in bytes as a {@link Long} value
+     * @throws InterruptedException
+     *         The exception, which is thrown, if the thread has been interrupted while waiting for
+     *         the garbage collection
+     */
+    private long getUsedHeap() throws InterruptedException {
+        long usedHeap = Long.MAX_VALUE;
+
+        for (int i = 0; i < MAX_GARBAGE_COLLECTIONS; i++) {
+            System.gc();
+            System.runFinalization();
+            Thread.sleep(20);
+            long currentUsedHeap = memoryMXBean.getHeapMemoryUsage().getUsed();
+
+            if (currentUsedHeap >= usedHeap) {
+                return Math.min(usedHeap, currentUsedHeap);
+            }
+
+            usedHeap = currentUsedHeap;
+        }
+
+        return usedHeap;
+    }
+
+    /**
+     * Creates and returns a form, which consists of a specific number of widgets.
+     *
+     * @param context
+     *         The context, which should be used by the form, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param factory
+     *         The factory, which should be used to create the widgets, as an instance of the type
+     *         {@link FieldFactory}. The factory may not be null
+     * @param size
+     *         The number of widgets as an {@link Integer} value
+     * @return The form, which has been created, as an instance of the class {@link LinearLayout}
+     */
+    private LinearLayout createForm(@NonNull final Context context,
+                                    @NonNull final FieldFactory factory, final int size) {
+        LinearLayout form = new LinearLayout(context);
+        form.setOrientation(LinearLayout.VERTICAL);
+
+        for (int i = 0; i < size; i++) {
+            form.addView(factory.createField(context));
+        }
+
+        return form;
+    }
+
+    /**
+     * Validates all widgets of a specific form.
+     *
+     * @param form
+     *         The form as an instance of the class {@link LinearLayout}. The form may not be null
+     */
+    private void validate(@NonNull final LinearLayout form) {
+        for (int i = 0; i < form.getChildCount(); i++) {
+            ((AbstractValidateableView<?, ?>) form.getChildAt(i)).validate();
+        }
+    }
+
+    /**
+     * Measures the heap, which is retained by forms, which consist of widgets, which are created
+     * by a specific factory, and adds the results to a report.
+     *
+     * @param report
+     *         The report as an instance of the class {@link BenchmarkReport}. The report may not
+     *         be null
+     * @param context
+     *         The context, which should be used by the forms, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param factory
+     *         The factory, which should be used to create the widgets, as an instance of the type
+     *         {@link FieldFactory}. The factory may not be null
+     * @throws InterruptedException
+     *         The exception, which is thrown, if the thread has been interrupted while waiting for
+     *         a garbage collection
+     */
+    private void measure(@NonNull final BenchmarkReport report, @NonNull final Context context,
+                         @NonNull final FieldFactory factory) throws InterruptedException {
+        // Loads classes and populates the caches of the framework, which are shared by all widgets
+        validate(createForm(context, factory, FORM_SIZES[0]));
+
+        for (int size : FORM_SIZES) {
+            long baseline = getUsedHeap();
+            LinearLayout form = createForm(context, factory, size);
+            long retainedHeap = getUsedHeap() - baseline;
+            validate(form);
+            long retainedHeapAfterValidation = getUsedHeap() - baseline;
+            assertEquals(size, form.getChildCount());
+            report.addRow(factory.getFieldType(), size, retainedHeap / size,
+                    retainedHeapAfterValidation / size, retainedHeapAfterValidation / 1024);
+        }
+    }
+
+    /**
+     * Measures the heap, which is retained by forms of different sizes for all types of widgets.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if the report could not be written
+     * @throws InterruptedException
+     *         The exception, which is thrown, if the thread has been interrupted while waiting for
+     *         a garbage collection
+     */
+    @Test
+    public final void benchmarkRetainedHeap() throws IOException, InterruptedException {
+        Context context = new ContextThemeWrapper(ApplicationProvider.getApplicationContext(),
+                R.style.Theme_AppCompat_Light);
+        FieldFactory[] factories = new FieldFactory[]{new FieldFactory() {
+
+            @Override
+            public String getFieldType() {
+                return EditText.class.getSimpleName();
+            }
+
+            @Override
+            public AbstractValidateableView<?, ?> createField(@NonNull final Context context) {
+                EditText editText = new EditText(context);
+                editText.setHint("Name");
+                editText.setMaxNumberOfCharacters(50);
+                editText.addValidator(new NotEmptyValidator(ERROR_MESSAGE));
+                editText.addValidator(new MaxLengthValidator(ERROR_MESSAGE, 50));
+                return editText;
+            }
+
+        }, new FieldFactory() {
+
+            @Override
+            public String getFieldType() {
+                return PasswordEditText.class.getSimpleName();
+            }
+
+            @Override
+            public AbstractValidateableView<?, ?> createField(@NonNull final Context context) {
+                PasswordEditText passwordEditText = new PasswordEditText(context);
+                passwordEditText.setHint("Password");
+                passwordEditText.addValidator(new NotEmptyValidator(ERROR_MESSAGE));
+                passwordEditText.addValidator(new MinLengthValidator(ERROR_MESSAGE, 8));
+                passwordEditText.addConstraint(new MinLengthConstraint(8));
+                passwordEditText.addConstraint(new ContainsLetterConstraint());
+                passwordEditText.addConstraint(new ContainsNumberConstraint());
+                passwordEditText.addConstraint(new ContainsSymbolConstraint());
+                passwordEditText.addAllHelperTexts("Weak", "Medium", "Strong");
+                passwordEditText.addAllHelperTextColors(Color.RED, Color.YELLOW, Color.GREEN);
+                return passwordEditText;
+            }
+
+        }, new FieldFactory() {
+
+            @Override
+            public String getFieldType() {
+                return Spinner.class.getSimpleName();
+            }
+
+            @Override
+            public AbstractValidateableView<?, ?> createField(@NonNull final Context context) {
+                Spinner spinner = new Spinner(context);
+                spinner.setHint("City");
+                spinner.setAdapter(
+                        new ArrayAdapter<>(context, android.R.layout.simple_spinner_item, ITEMS));
+                spinner.addValidator(new NotNullValidator(ERROR_MESSAGE));
+                return spinner;
+            }
+
+        }};
+        BenchmarkReport report =
+                new BenchmarkReport("retained_heap", "field type", "fields", "bytes/field",
+                        "bytes/field after validation", "total (KiB)");
+
+        for (FieldFactory factory : factories) {
+            measure(report, context, factory);
+        }
+
+        report.write();
+    }
+
+}
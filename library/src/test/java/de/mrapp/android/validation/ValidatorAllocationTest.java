@@ -0,0 +1,326 @@
+/*
+ * Copyright 2015 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.content.Context;
+import android.view.ContextThemeWrapper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+import de.mrapp.android.validation.constraints.ConjunctiveConstraint;
+import de.mrapp.android.validation.constraints.DisjunctiveConstraint;
+import de.mrapp.android.validation.constraints.NegateConstraint;
+import de.mrapp.android.validation.constraints.text.ContainsLetterConstraint;
+import de.mrapp.android.validation.constraints.text.ContainsNumberConstraint;
+import de.mrapp.android.validation.constraints.text.ContainsSymbolConstraint;
+import de.mrapp.android.validation.constraints.text.DictionaryConstraint;
+import de.mrapp.android.validation.constraints.text.MinLengthConstraint;
+import de.mrapp.android.validation.constraints.text.RegexConstraint;
+import de.mrapp.android.validation.validators.ConjunctiveValidator;
+import de.mrapp.android.validation.validators.DisjunctiveValidator;
+import de.mrapp.android.validation.validators.NegateValidator;
+import de.mrapp.android.validation.validators.NotNullValidator;
+import de.mrapp.android.validation.validators.misc.DomainNameValidator;
+import de.mrapp.android.validation.validators.misc.EmailAddressValidator;
+import de.mrapp.android.validation.validators.misc.IPv4AddressValidator;
+import de.mrapp.android.validation.validators.misc.IPv6AddressValidator;
+import de.mrapp.android.validation.validators.misc.IRIValidator;
+import de.mrapp.android.validation.validators.misc.PhoneNumberValidator;
+import de.mrapp.android.validation.validators.text.BeginsWithUppercaseLetterValidator;
+import de.mrapp.android.validation.validators.text.Case;
+import de.mrapp.android.validation.validators.text.EqualValidator;
+import de.mrapp.android.validation.validators.text.LetterOrNumberValidator;
+import de.mrapp.android.validation.validators.text.LetterValidator;
+import de.mrapp.android.validation.validators.text.MaxLengthValidator;
+import de.mrapp.android.validation.validators.text.MinLengthValidator;
+import de.mrapp.android.validation.validators.text.NoWhitespaceValidator;
+import de.mrapp.android.validation.validators.text.NotEmptyValidator;
+import de.mrapp.android.validation.validators.text.NumberValidator;
+import de.mrapp.android.validation.validators.text.RegexValidator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeNotNull;
+
+/**
+ * Tests, whether the built-in validators and constraints stay within the allocation budgets, which
+ * are specified in the file allocation_budgets.properties.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ValidatorAllocationTest {
+
+    /**
+     * The name of the file, which specifies the allocation budgets.
+     */
+    private static final String BUDGETS_FILE_NAME = "allocation_budgets.properties";
+
+    /**
+     * The number of times, each case is executed while measuring.
+     */
+    private static final int ITERATIONS = 10000;
+
+    /**
+     * The error message, which is used by the validators.
+     */
+    private static final String ERROR_MESSAGE = "error";
+
+    /**
+     * The cases, which are measured, mapped to their names.
+     */
+    private Map<String, Runnable> cases;
+
+    /**
+     * Prevents the results of the measured calls from being optimized away.
+     */
+    private boolean sink;
+
+    /**
+     * Adds the cases of a specific validator. One case validates a valid value, the other one
+     * validates an invalid value.
+     *
+     * @param name
+     *         The name of the validator as a {@link String}. The name may not be null
+     * @param validator
+     *         The validator as an instance of the type {@link Validator}. The validator may not be
+     *         null
+     * @param validValue
+     *         A value, which is valid according to the validator, as an instance of the generic
+     *         type Type
+     * @param invalidValue
+     *         A value, which is invalid according to the validator, as an instance of the generic
+     *         type Type
+     * @param <Type>
+     *         The type of the values, which are validated by the validator
+     */
+    private <Type> void addCases(@NonNull final String name,
+                                 @NonNull final Validator<Type> validator, final Type validValue,
+                                 final Type invalidValue) {
+        assertTrue(name, validator.validate(validValue));
+        assertFalse(name, validator.validate(invalidValue));
+        cases.put(name + ".valid", new Runnable() {
+
+            @Override
+            public void run() {
+                sink ^= validator.validate(validValue);
+            }
+
+        });
+        cases.put(name + ".invalid", new Runnable() {
+
+            @Override
+            public void run() {
+                sink ^= validator.validate(invalidValue);
+            }
+
+        });
+    }
+
+    /**
+     * Adds the cases of a specific constraint. One case checks a text, which satisfies the
+     * constraint, the other one checks a text, which does not satisfy the constraint.
+     *
+     * @param name
+     *         The name of the constraint as a {@link String}. The name may not be null
+     * @param constraint
+     *         The constraint as an instance of the type {@link Constraint}. The constraint may not
+     *         be null
+     * @param satisfyingText
+     *         A text, which satisfies the constraint, as an instance of the type {@link
+     *         CharSequence}
+     * @param violatingText
+     *         A text, which does not satisfy the constraint, as an instance of the type {@link
+     *         CharSequence}
+     */
+    private void addCases(@NonNull final String name,
+                          @NonNull final Constraint<CharSequence> constraint,
+                          final CharSequence satisfyingText, final CharSequence violatingText) {
+        assertTrue(name, constraint.isSatisfied(satisfyingText));
+        assertFalse(name, constraint.isSatisfied(violatingText));
+        cases.put(name + ".satisfied", new Runnable() {
+
+            @Override
+            public void run() {
+                sink ^= constraint.isSatisfied(satisfyingText);
+            }
+
+        });
+        cases.put(name + ".notSatisfied", new Runnable() {
+
+            @Override
+            public void run() {
+                sink ^= constraint.isSatisfied(violatingText);
+            }
+
+        });
+    }
+
+    /**
+     * Loads the allocation budgets.
+     *
+     * @return The allocation budgets as an instance of the class {@link Properties}. The
+     * properties may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the budgets could not be read
+     */
+    private Properties loadBudgets() throws IOException {
+        InputStream inputStream = getClass().getResourceAsStream(BUDGETS_FILE_NAME);
+        assertNotNull("Missing resource " + BUDGETS_FILE_NAME, inputStream);
+
+        try {
+            Properties budgets = new Properties();
+            budgets.load(inputStream);
+            return budgets;
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    /**
+     * Creates the cases, which are measured.
+     */
+    @Before
+    @SuppressWarnings("unchecked")
+    public final void setUp() {
+        Context context = ApplicationProvider.getApplicationContext();
+        EditText editText = new EditText(
+                new ContextThemeWrapper(context, R.style.Theme_AppCompat_Light));
+        editText.setText("secret");
+        cases = new LinkedHashMap<>();
+        addCases("NotNullValidator", new NotNullValidator(ERROR_MESSAGE), "value", null);
+        addCases("ConjunctiveValidator", ConjunctiveValidator
+                        .create(ERROR_MESSAGE, new NotEmptyValidator(ERROR_MESSAGE),
+                                new MaxLengthValidator(ERROR_MESSAGE, 10)), (CharSequence) "abc",
+                "");
+        addCases("DisjunctiveValidator", DisjunctiveValidator
+                .create(ERROR_MESSAGE, new NumberValidator(ERROR_MESSAGE),
+                        new LetterValidator(ERROR_MESSAGE, Case.CASE_INSENSITIVE, false)),
+                (CharSequence) "abc", "a1");
+        addCases("NegateValidator",
+                NegateValidator.create(ERROR_MESSAGE, new NumberValidator(ERROR_MESSAGE)),
+                (CharSequence) "abc", "123");
+        addCases("BeginsWithUppercaseLetterValidator",
+                new BeginsWithUppercaseLetterValidator(ERROR_MESSAGE), "Abc", "abc");
+        addCases("EqualValidator", new EqualValidator(ERROR_MESSAGE, editText), "secret",
+                "secreT");
+        addCases("LetterOrNumberValidator",
+                new LetterOrNumberValidator(ERROR_MESSAGE, Case.CASE_INSENSITIVE, true, '-'),
+                "abc 12-3", "abc_123");
+        addCases("LetterValidator", new LetterValidator(ERROR_MESSAGE, Case.LOWERCASE, false),
+                "abcdef", "abcDef");
+        addCases("MaxLengthValidator", new MaxLengthValidator(ERROR_MESSAGE, 8), "abcdef",
+                "abcdefghij");
+        addCases("MinLengthValidator", new MinLengthValidator(ERROR_MESSAGE, 4), "abcdef", "abc");
+        addCases("NoWhitespaceValidator", new NoWhitespaceValidator(ERROR_MESSAGE), "abcdef",
+                "abc def");
+        addCases("NotEmptyValidator", new NotEmptyValidator(ERROR_MESSAGE), "abc", "");
+        addCases("NumberValidator", new NumberValidator(ERROR_MESSAGE), "12345", "12a45");
+        addCases("RegexValidator",
+                new RegexValidator(ERROR_MESSAGE, Pattern.compile("[a-z]+@[a-z]+")), "user@host",
+                "user");
+        addCases("DomainNameValidator", new DomainNameValidator(ERROR_MESSAGE),
+                "www.example.com", "www..example");
+        addCases("EmailAddressValidator", new EmailAddressValidator(ERROR_MESSAGE),
+                "user@example.com", "user@");
+        addCases("IPv4AddressValidator", new IPv4AddressValidator(ERROR_MESSAGE), "192.168.0.1",
+                "192.168.0.256");
+        addCases("IPv6AddressValidator", new IPv6AddressValidator(ERROR_MESSAGE),
+                "2001:db8:0:0:0:0:2:1", "2001:db8::g");
+        addCases("IRIValidator", new IRIValidator(ERROR_MESSAGE), "http://www.example.com/path",
+                "http://");
+        addCases("PhoneNumberValidator", new PhoneNumberValidator(ERROR_MESSAGE),
+                "+49 123 456789", "phone");
+        addCases("ConjunctiveConstraint", ConjunctiveConstraint.create(
+                new Constraint[]{new ContainsLetterConstraint(), new ContainsNumberConstraint()}),
+                "abc123", "abcdef");
+        addCases("DisjunctiveConstraint", DisjunctiveConstraint.create(
+                new Constraint[]{new ContainsNumberConstraint(), new ContainsSymbolConstraint()}),
+                "abc123", "abcdef");
+        addCases("NegateConstraint", NegateConstraint.create(new ContainsNumberConstraint()),
+                "abcdef", "abc123");
+        addCases("ContainsLetterConstraint", new ContainsLetterConstraint(), "123a45", "12345");
+        addCases("ContainsNumberConstraint", new ContainsNumberConstraint(), "abc1de", "abcdef");
+        addCases("ContainsSymbolConstraint", new ContainsSymbolConstraint(), "abc!de", "abcdef");
+        addCases("MinLengthConstraint", new MinLengthConstraint(8), "abcdefgh", "abc");
+        addCases("RegexConstraint", new RegexConstraint(Pattern.compile("[a-z]+")), "abcdef",
+                "abc123");
+        addCases("DictionaryConstraint", new DictionaryConstraint(context), "Xk9#mQ2!vL7@",
+                "password");
+    }
+
+    /**
+     * Tests, whether a budget is specified for each case and vice versa.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if the budgets could not be read
+     */
+    @Test
+    public final void testBudgetsMatchCases() throws IOException {
+        assertEquals(new TreeSet<>(cases.keySet()),
+                new TreeSet<>(loadBudgets().stringPropertyNames()));
+    }
+
+    /**
+     * Tests, whether all cases stay within their allocation budgets.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if the budgets could not be read
+     */
+    @Test
+    public final void testAllocationsWithinBudgets() throws IOException {
+        AllocationMeter allocationMeter = AllocationMeter.create();
+        assumeNotNull(allocationMeter);
+        Properties budgets = loadBudgets();
+        StringBuilder violations = new StringBuilder();
+
+        for (Map.Entry<String, Runnable> entry : cases.entrySet()) {
+            String name = entry.getKey();
+            String budget = budgets.getProperty(name);
+
+            if (budget != null) {
+                long allocatedBytes = allocationMeter.measure(entry.getValue(), ITERATIONS);
+                System.out.println(name + ": " + allocatedBytes + " bytes");
+
+                if (allocatedBytes > Long.parseLong(budget.trim())) {
+                    violations.append("\n").append(name).append(" allocates ")
+                            .append(allocatedBytes).append(" bytes per call, budget is ")
+                            .append(budget.trim()).append(" bytes");
+                }
+            }
+        }
+
+        if (violations.length() > 0) {
+            fail("Allocation budgets exceeded:" + violations);
+        }
+    }
+
+}